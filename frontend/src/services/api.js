@@ -274,8 +274,22 @@ const apiService = {
   },
 
   // Members API
-  async getMembers(params = {}) {
-    return this.get('/members', params)
+  async getMembersPage(params = {}) {
+    return this.get('/members/page', params)
+  },
+
+  /**
+   * Collects every member by following the page cursor, one bounded request per page
+   */
+  async getAllMembersPaged(params = {}) {
+    const members = []
+    let cursor = null
+    do {
+      const page = await this.getMembersPage({ ...params, size: 200, ...(cursor ? { cursor } : {}) })
+      members.push(...page.items)
+      cursor = page.nextCursor
+    } while (cursor)
+    return members
   },
 
   async getMemberById(id) {
@@ -286,6 +300,11 @@ const apiService = {
     return this.post('/members', member)
   },
 
+  async importMembers(file, format = 'csv') {
+    const contentType = format === 'ndjson' ? 'application/x-ndjson' : 'text/csv'
+    return this.post('/members/import', file, { headers: { 'Content-Type': contentType } })
+  },
+
   async updateMember(id, member) {
     return this.put(`/members/${id}`, member)
   },
@@ -307,6 +326,10 @@ const apiService = {
     return this.get('/payments', params)
   },
 
+  async getPaymentLedger(params = {}) {
+    return this.get('/payments/ledger', params)
+  },
+
   async getMemberPayments(memberId) {
     return this.get(`/payments/member/${memberId}`)
   },
@@ -88,7 +88,7 @@ export const useMemberStore = defineStore('members', () => {
     error.value = null
 
     try {
-      const response = await apiService.getMembers(params)
+      const response = await apiService.getAllMembersPaged(params)
       members.value = Array.isArray(response) ? response : []
 
       // Update pagination
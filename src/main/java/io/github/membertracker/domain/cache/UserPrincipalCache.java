@@ -0,0 +1,80 @@
+package io.github.membertracker.domain.cache;
+
+import io.github.membertracker.domain.model.User;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded, time-limited cache of the users behind authenticated requests, keyed by email.
+ * It saves the JWT filter a database query per request. Use cases that change a user's
+ * password, profile, or locked/enabled state invalidate the entry once the change is
+ * committed. The TTL bounds how long a change made outside those use cases can go unnoticed.
+ */
+public class UserPrincipalCache {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+    // Bumped on every invalidation; a load that overlapped one is not cached
+    private long invalidations;
+
+    public UserPrincipalCache(long ttlSeconds, int maxEntries) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > UserPrincipalCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached user, or null if there is none or it has expired.
+     */
+    public synchronized User get(String email) {
+        Entry entry = entries.get(email);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.loadedAt >= ttlNanos) {
+            entries.remove(email);
+            return null;
+        }
+        return entry.user;
+    }
+
+    /**
+     * Returns a stamp to take before loading a user, to be passed to {@link #put}.
+     */
+    public synchronized long stamp() {
+        return invalidations;
+    }
+
+    /**
+     * Caches a loaded user unless an invalidation happened since {@code stamp} was taken,
+     * in which case the loaded copy may already be stale.
+     */
+    public synchronized void put(User user, long stamp) {
+        if (stamp == invalidations && maxEntries > 0 && ttlNanos > 0) {
+            entries.put(user.getUsername(), new Entry(user, System.nanoTime()));
+        }
+    }
+
+    public synchronized void invalidate(String email) {
+        invalidations++;
+        entries.remove(email);
+    }
+
+    private static final class Entry {
+        private final User user;
+        private final long loadedAt;
+
+        private Entry(User user, long loadedAt) {
+            this.user = user;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
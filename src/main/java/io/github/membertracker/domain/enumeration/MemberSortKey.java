@@ -0,0 +1,56 @@
+package io.github.membertracker.domain.enumeration;
+
+import io.github.membertracker.domain.exception.MemberDomainException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Enumeration of the orderings supported by the paginated member listing.
+ * Every ordering is completed with the member id so the keyset is unique.
+ */
+public enum MemberSortKey {
+    NAME("name", true),
+    JOIN_DATE("joinDate", false),
+    MONTHS_MISSED("monthsMissed", false);
+
+    private final String code;
+    private final boolean ascending;
+
+    private static final Map<String, MemberSortKey> BY_CODE = Arrays.stream(values())
+        .collect(Collectors.toMap(MemberSortKey::getCode, Function.identity()));
+
+    MemberSortKey(String code, boolean ascending) {
+        this.code = code;
+        this.ascending = ascending;
+    }
+
+    /**
+     * Returns the code used in API requests.
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Returns true when the listing is ordered from the lowest value up
+     * (names A-Z); false for newest joiners or most months missed first.
+     */
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * Converts a request code to a MemberSortKey.
+     * Throws domain exception if the code is not supported.
+     */
+    public static MemberSortKey fromCode(String code) {
+        MemberSortKey sortKey = code != null ? BY_CODE.get(code) : null;
+        if (sortKey == null) {
+            throw MemberDomainException.invalidMemberData("sort", code);
+        }
+        return sortKey;
+    }
+}
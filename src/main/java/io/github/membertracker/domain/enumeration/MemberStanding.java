@@ -0,0 +1,48 @@
+package io.github.membertracker.domain.enumeration;
+
+import io.github.membertracker.domain.exception.MemberDomainException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Enumeration of the standings a member is classified into by the membership policy.
+ * A member has exactly one standing; the first matching rule in declaration order wins.
+ */
+public enum MemberStanding {
+    INACTIVE("inactive"),
+    DEACTIVATION_DUE("deactivationDue"),
+    AT_RISK("atRisk"),
+    REMINDER_DUE("reminderDue"),
+    GOOD("good");
+
+    private final String code;
+
+    private static final Map<String, MemberStanding> BY_CODE = Arrays.stream(values())
+        .collect(Collectors.toMap(MemberStanding::getCode, Function.identity()));
+
+    MemberStanding(String code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the code used in API requests and responses.
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Converts a request code to a MemberStanding.
+     * Throws domain exception if the code is not supported.
+     */
+    public static MemberStanding fromCode(String code) {
+        MemberStanding standing = code != null ? BY_CODE.get(code) : null;
+        if (standing == null) {
+            throw MemberDomainException.invalidMemberData("standing", code);
+        }
+        return standing;
+    }
+}
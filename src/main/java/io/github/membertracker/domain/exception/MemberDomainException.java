@@ -13,6 +13,7 @@ public class MemberDomainException extends DomainException {
     public static final String DUPLICATE_PAYMENT_FOR_PERIOD = "MEMBER_004";
     public static final String PAYMENT_AMOUNT_INVALID = "MEMBER_005";
     public static final String MEMBER_NOT_FOUND = "MEMBER_006";
+    public static final String INVALID_PAGE_CURSOR = "MEMBER_007";
 
     public MemberDomainException(String message, String errorCode) {
         super(message, errorCode, "Member");
@@ -71,4 +72,11 @@ public class MemberDomainException extends DomainException {
             MEMBER_NOT_FOUND
         );
     }
+
+    public static MemberDomainException invalidPageCursor(String cursor) {
+        return new MemberDomainException(
+            String.format("Page cursor '%s' is invalid or does not match the requested sort order", cursor),
+            INVALID_PAGE_CURSOR
+        );
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ public class PaymentDomainException extends DomainException {
     public static final String PAYMENT_NOT_FOUND = "PAYMENT_005";
     public static final String PAYMENT_DATE_IN_FUTURE = "PAYMENT_006";
     public static final String PAYMENT_PERIOD_IN_FUTURE = "PAYMENT_007";
+    public static final String INVALID_PAGE_CURSOR = "PAYMENT_008";
 
     public PaymentDomainException(String message, String errorCode) {
         super(message, errorCode, "Payment");
@@ -74,4 +75,11 @@ public class PaymentDomainException extends DomainException {
             PAYMENT_PERIOD_IN_FUTURE
         );
     }
-}
\ No newline at end of file
+
+    public static PaymentDomainException invalidPageCursor(String cursor) {
+        return new PaymentDomainException(
+            String.format("Page cursor '%s' is invalid", cursor),
+            INVALID_PAGE_CURSOR
+        );
+    }
+}
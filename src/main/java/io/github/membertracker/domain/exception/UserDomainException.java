@@ -17,6 +17,10 @@ public class UserDomainException extends DomainException {
     public static final String INVALID_USER_DATA = "USER_008";
     public static final String ACCOUNT_LOCKED = "USER_009";
     public static final String CREDENTIALS_EXPIRED = "USER_010";
+    public static final String TOO_MANY_LOGIN_ATTEMPTS = "USER_011";
+    public static final String LOGIN_CAPACITY_EXCEEDED = "USER_012";
+    public static final String INVALID_REFRESH_TOKEN = "USER_013";
+    public static final String REFRESH_TOKEN_REUSED = "USER_014";
 
     public UserDomainException(String message, String errorCode) {
         super(message, errorCode, "User");
@@ -96,4 +100,39 @@ public class UserDomainException extends DomainException {
             CREDENTIALS_EXPIRED
         );
     }
-}
\ No newline at end of file
+
+    public static UserDomainException tooManyLoginAttempts() {
+        return new UserDomainException(
+            "Too many login attempts, please try again later",
+            TOO_MANY_LOGIN_ATTEMPTS
+        );
+    }
+
+    public static UserDomainException loginCapacityExceeded() {
+        return new UserDomainException(
+            "The server is busy verifying passwords, please try again shortly",
+            LOGIN_CAPACITY_EXCEEDED
+        );
+    }
+
+    public static UserDomainException invalidRefreshToken() {
+        return new UserDomainException(
+            "Invalid refresh token",
+            INVALID_REFRESH_TOKEN
+        );
+    }
+
+    public static UserDomainException refreshTokenReused(String email) {
+        return new UserDomainException(
+            String.format("Refresh token for user '%s' was already used; the session has been revoked", email),
+            REFRESH_TOKEN_REUSED
+        );
+    }
+
+    /**
+     * Returns true for violations that mean "try again later" rather than a bad request.
+     */
+    public boolean isThrottled() {
+        return TOO_MANY_LOGIN_ATTEMPTS.equals(getErrorCode()) || LOGIN_CAPACITY_EXCEEDED.equals(getErrorCode());
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.membertracker.domain.model;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Outcome of one arrears rollover run: the periods newly applied, oldest first, and the
+ * number of member counters incremented across them. Both are empty/zero when the
+ * watermark was already up to date.
+ */
+public final class ArrearsRolloverResult {
+
+    private final List<YearMonth> processedPeriods;
+    private final int membersUpdated;
+
+    public ArrearsRolloverResult(List<YearMonth> processedPeriods, int membersUpdated) {
+        this.processedPeriods = processedPeriods;
+        this.membersUpdated = membersUpdated;
+    }
+
+    public List<YearMonth> getProcessedPeriods() {
+        return processedPeriods;
+    }
+
+    public int getMembersUpdated() {
+        return membersUpdated;
+    }
+}
@@ -34,6 +34,11 @@ public class Communication {
 
     private boolean sentToAllMembers;
 
+    @Enumerated(EnumType.STRING)
+    private EnqueueStatus enqueueStatus;
+
+    private long enqueuedThroughMemberId;
+
     private List<MessageDelivery> deliveries = new ArrayList<>();
 
     // Enum for communication types
@@ -41,6 +46,11 @@ public class Communication {
         ANNOUNCEMENT, REMINDER, PERSONAL
     }
 
+    // Progress of queueing deliveries for all members
+    public enum EnqueueStatus {
+        ENQUEUING, ENQUEUED
+    }
+
     // Constructors
     public Communication() {
         this.createdDate = LocalDateTime.now();
@@ -103,6 +113,22 @@ public class Communication {
         this.sentToAllMembers = sentToAllMembers;
     }
 
+    public EnqueueStatus getEnqueueStatus() {
+        return enqueueStatus;
+    }
+
+    public void setEnqueueStatus(EnqueueStatus enqueueStatus) {
+        this.enqueueStatus = enqueueStatus;
+    }
+
+    public long getEnqueuedThroughMemberId() {
+        return enqueuedThroughMemberId;
+    }
+
+    public void setEnqueuedThroughMemberId(long enqueuedThroughMemberId) {
+        this.enqueuedThroughMemberId = enqueuedThroughMemberId;
+    }
+
     public List<MessageDelivery> getDeliveries() {
         return deliveries;
     }
@@ -0,0 +1,44 @@
+package io.github.membertracker.domain.model;
+
+import java.time.YearMonth;
+
+/**
+ * Immutable snapshot of the headline figures shown on the dashboard.
+ */
+public final class DashboardStats {
+
+    private final YearMonth period;
+    private final long totalMembers;
+    private final long activeMembers;
+    private final long overdueMembers;
+    private final double monthlyRevenue;
+
+    public DashboardStats(YearMonth period, long totalMembers, long activeMembers,
+                          long overdueMembers, double monthlyRevenue) {
+        this.period = period;
+        this.totalMembers = totalMembers;
+        this.activeMembers = activeMembers;
+        this.overdueMembers = overdueMembers;
+        this.monthlyRevenue = monthlyRevenue;
+    }
+
+    public YearMonth getPeriod() {
+        return period;
+    }
+
+    public long getTotalMembers() {
+        return totalMembers;
+    }
+
+    public long getActiveMembers() {
+        return activeMembers;
+    }
+
+    public long getOverdueMembers() {
+        return overdueMembers;
+    }
+
+    public double getMonthlyRevenue() {
+        return monthlyRevenue;
+    }
+}
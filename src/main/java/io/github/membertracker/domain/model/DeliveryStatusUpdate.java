@@ -0,0 +1,70 @@
+package io.github.membertracker.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * The outcome of one send attempt, written back to the delivery in bulk.
+ * A retry returns the delivery to PENDING until {@code nextAttemptAt}.
+ * It only applies while the delivery still holds the claim it was sent under.
+ */
+public final class DeliveryStatusUpdate {
+
+    private final Long deliveryId;
+    private final LocalDateTime claimedAt;
+    private final MessageDelivery.DeliveryStatus status;
+    private final LocalDateTime deliveryTime;
+    private final String notes;
+    private final int attemptCount;
+    private final LocalDateTime nextAttemptAt;
+
+    private DeliveryStatusUpdate(MessageDelivery delivery, MessageDelivery.DeliveryStatus status,
+                                 LocalDateTime deliveryTime, String notes, int attemptCount,
+                                 LocalDateTime nextAttemptAt) {
+        this.deliveryId = delivery.getId();
+        this.claimedAt = delivery.getClaimedAt();
+        this.status = status;
+        this.deliveryTime = deliveryTime;
+        this.notes = notes;
+        this.attemptCount = attemptCount;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public static DeliveryStatusUpdate completed(MessageDelivery delivery, MessageDelivery.DeliveryStatus status,
+                                                 int attemptCount, String notes) {
+        return new DeliveryStatusUpdate(delivery, status, LocalDateTime.now(), notes, attemptCount, null);
+    }
+
+    public static DeliveryStatusUpdate retry(MessageDelivery delivery, int attemptCount, LocalDateTime nextAttemptAt,
+                                             String notes) {
+        return new DeliveryStatusUpdate(delivery, MessageDelivery.DeliveryStatus.PENDING, null, notes,
+            attemptCount, nextAttemptAt);
+    }
+
+    public Long getDeliveryId() {
+        return deliveryId;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public MessageDelivery.DeliveryStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getDeliveryTime() {
+        return deliveryTime;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.membertracker.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ * The next cursor is an opaque token that resumes the listing right after the last item;
+ * it is null when there are no more items.
+ */
+public final class KeysetPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public KeysetPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+}
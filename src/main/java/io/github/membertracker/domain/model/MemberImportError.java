@@ -0,0 +1,29 @@
+package io.github.membertracker.domain.model;
+
+/**
+ * A rejected row of a member import.
+ */
+public final class MemberImportError {
+
+    private final long lineNumber;
+    private final String email;
+    private final String message;
+
+    public MemberImportError(long lineNumber, String email, String message) {
+        this.lineNumber = lineNumber;
+        this.email = email;
+        this.message = message;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
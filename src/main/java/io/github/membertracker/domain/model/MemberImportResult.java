@@ -0,0 +1,47 @@
+package io.github.membertracker.domain.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a member import.
+ * Duplicates are rows whose email already exists or appeared earlier in the same file;
+ * they are skipped rather than reported as errors. Only the first errors are listed
+ * when a file has very many bad rows; see {@link #isErrorsTruncated()}.
+ */
+public final class MemberImportResult {
+
+    private final long totalRows;
+    private final long imported;
+    private final long duplicates;
+    private final List<MemberImportError> errors;
+    private final boolean errorsTruncated;
+
+    public MemberImportResult(long totalRows, long imported, long duplicates,
+                              List<MemberImportError> errors, boolean errorsTruncated) {
+        this.totalRows = totalRows;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    public List<MemberImportError> getErrors() {
+        return errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+}
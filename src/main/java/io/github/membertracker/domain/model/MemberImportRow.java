@@ -0,0 +1,42 @@
+package io.github.membertracker.domain.model;
+
+/**
+ * One record read from a member import file: either a parsed member or the reason
+ * the line could not be parsed.
+ */
+public final class MemberImportRow {
+
+    private final long lineNumber;
+    private final Member member;
+    private final String error;
+
+    private MemberImportRow(long lineNumber, Member member, String error) {
+        this.lineNumber = lineNumber;
+        this.member = member;
+        this.error = error;
+    }
+
+    public static MemberImportRow parsed(long lineNumber, Member member) {
+        return new MemberImportRow(lineNumber, member, null);
+    }
+
+    public static MemberImportRow unparseable(long lineNumber, String error) {
+        return new MemberImportRow(lineNumber, null, error);
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public Member getMember() {
+        return member;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isParsed() {
+        return member != null;
+    }
+}
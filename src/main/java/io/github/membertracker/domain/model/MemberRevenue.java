@@ -0,0 +1,35 @@
+package io.github.membertracker.domain.model;
+
+/**
+ * Revenue contributed by a single member.
+ */
+public final class MemberRevenue {
+
+    private final Long memberId;
+    private final String memberName;
+    private final double total;
+    private final long paymentCount;
+
+    public MemberRevenue(Long memberId, String memberName, double total, long paymentCount) {
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.total = total;
+        this.paymentCount = paymentCount;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    public long getPaymentCount() {
+        return paymentCount;
+    }
+}
@@ -0,0 +1,239 @@
+package io.github.membertracker.domain.model;
+
+import io.github.membertracker.domain.enumeration.MemberStanding;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Membership policy results for the whole roster, stored column by column.
+ * Row i of every column belongs to the same member. Keeping one primitive array per
+ * column holds 100k members in a few megabytes and serializes as plain JSON arrays.
+ * The counts per standing code always cover the full evaluation, also on a filtered report.
+ */
+public final class MemberStandingReport {
+
+    private static final byte GOOD_STANDING = 1;
+    private static final byte REMINDER_DUE = 1 << 1;
+    private static final byte DEACTIVATION_DUE = 1 << 2;
+    private static final byte CAN_REACTIVATE = 1 << 3;
+
+    private static final MemberStanding[] STANDINGS = MemberStanding.values();
+
+    private final LocalDate evaluatedOn;
+    private final int size;
+    private final long[] memberIds;
+    private final String[] memberNames;
+    private final byte[] standings;
+    private final byte[] flags;
+    private final int[] daysUntilPaymentDue;
+    private final int[] consecutiveMonthsMissed;
+    private final Map<String, Integer> counts;
+
+    private MemberStandingReport(LocalDate evaluatedOn, int size, long[] memberIds, String[] memberNames,
+                                 byte[] standings, byte[] flags, int[] daysUntilPaymentDue,
+                                 int[] consecutiveMonthsMissed, Map<String, Integer> counts) {
+        this.evaluatedOn = evaluatedOn;
+        this.size = size;
+        this.memberIds = memberIds;
+        this.memberNames = memberNames;
+        this.standings = standings;
+        this.flags = flags;
+        this.daysUntilPaymentDue = daysUntilPaymentDue;
+        this.consecutiveMonthsMissed = consecutiveMonthsMissed;
+        this.counts = counts;
+    }
+
+    /**
+     * Returns a report with only the members in one of the given standings.
+     */
+    public MemberStandingReport filter(Set<MemberStanding> selected) {
+        boolean[] keep = new boolean[STANDINGS.length];
+        for (MemberStanding standing : selected) {
+            keep[standing.ordinal()] = true;
+        }
+
+        int kept = 0;
+        int[] rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            if (keep[standings[i]]) {
+                rows[kept++] = i;
+            }
+        }
+
+        Builder builder = new Builder(evaluatedOn, kept);
+        for (int r = 0; r < kept; r++) {
+            int i = rows[r];
+            builder.append(memberIds[i], memberNames[i], standings[i], flags[i],
+                daysUntilPaymentDue[i], consecutiveMonthsMissed[i]);
+        }
+        return builder.build(counts);
+    }
+
+    public LocalDate getEvaluatedOn() {
+        return evaluatedOn;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long[] getMemberIds() {
+        return memberIds;
+    }
+
+    public String[] getMemberNames() {
+        return memberNames;
+    }
+
+    public String[] getStandings() {
+        String[] codes = new String[size];
+        for (int i = 0; i < size; i++) {
+            codes[i] = STANDINGS[standings[i]].getCode();
+        }
+        return codes;
+    }
+
+    public int[] getDaysUntilPaymentDue() {
+        return daysUntilPaymentDue;
+    }
+
+    public int[] getConsecutiveMonthsMissed() {
+        return consecutiveMonthsMissed;
+    }
+
+    public boolean[] getGoodStanding() {
+        return flagColumn(GOOD_STANDING);
+    }
+
+    public boolean[] getReminderDue() {
+        return flagColumn(REMINDER_DUE);
+    }
+
+    public boolean[] getDeactivationDue() {
+        return flagColumn(DEACTIVATION_DUE);
+    }
+
+    public boolean[] getCanReactivate() {
+        return flagColumn(CAN_REACTIVATE);
+    }
+
+    public Map<String, Integer> getCounts() {
+        return counts;
+    }
+
+    private boolean[] flagColumn(byte flag) {
+        boolean[] column = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            column[i] = (flags[i] & flag) != 0;
+        }
+        return column;
+    }
+
+    /**
+     * Appends one row per evaluated member, growing the columns as needed.
+     */
+    public static class Builder {
+
+        private final LocalDate evaluatedOn;
+        private final int[] standingCounts = new int[STANDINGS.length];
+        private int size;
+        private long[] memberIds;
+        private String[] memberNames;
+        private byte[] standings;
+        private byte[] flags;
+        private int[] daysUntilPaymentDue;
+        private int[] consecutiveMonthsMissed;
+
+        /**
+         * @param evaluatedOn the date the policy was evaluated for
+         * @param expectedSize the expected number of members, used to size the columns up front
+         */
+        public Builder(LocalDate evaluatedOn, int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            this.evaluatedOn = evaluatedOn;
+            this.memberIds = new long[capacity];
+            this.memberNames = new String[capacity];
+            this.standings = new byte[capacity];
+            this.flags = new byte[capacity];
+            this.daysUntilPaymentDue = new int[capacity];
+            this.consecutiveMonthsMissed = new int[capacity];
+        }
+
+        public void add(Member member, boolean goodStanding, boolean reminderDue, boolean deactivationDue,
+                        boolean canReactivate, int daysUntilDue) {
+            MemberStanding standing;
+            if (!member.isActive()) {
+                standing = MemberStanding.INACTIVE;
+            } else if (deactivationDue) {
+                standing = MemberStanding.DEACTIVATION_DUE;
+            } else if (!goodStanding) {
+                standing = MemberStanding.AT_RISK;
+            } else if (reminderDue) {
+                standing = MemberStanding.REMINDER_DUE;
+            } else {
+                standing = MemberStanding.GOOD;
+            }
+
+            byte memberFlags = 0;
+            if (goodStanding) {
+                memberFlags |= GOOD_STANDING;
+            }
+            if (reminderDue) {
+                memberFlags |= REMINDER_DUE;
+            }
+            if (deactivationDue) {
+                memberFlags |= DEACTIVATION_DUE;
+            }
+            if (canReactivate) {
+                memberFlags |= CAN_REACTIVATE;
+            }
+
+            append(member.getId() != null ? member.getId() : 0L, member.getName(), (byte) standing.ordinal(),
+                memberFlags, daysUntilDue, member.getConsecutiveMonthsMissed());
+        }
+
+        private void append(long memberId, String memberName, byte standing, byte memberFlags,
+                            int daysUntilDue, int monthsMissed) {
+            if (size == memberIds.length) {
+                int capacity = size + (size >> 1);
+                memberIds = Arrays.copyOf(memberIds, capacity);
+                memberNames = Arrays.copyOf(memberNames, capacity);
+                standings = Arrays.copyOf(standings, capacity);
+                flags = Arrays.copyOf(flags, capacity);
+                daysUntilPaymentDue = Arrays.copyOf(daysUntilPaymentDue, capacity);
+                consecutiveMonthsMissed = Arrays.copyOf(consecutiveMonthsMissed, capacity);
+            }
+            memberIds[size] = memberId;
+            memberNames[size] = memberName;
+            standings[size] = standing;
+            flags[size] = memberFlags;
+            daysUntilPaymentDue[size] = daysUntilDue;
+            consecutiveMonthsMissed[size] = monthsMissed;
+            standingCounts[standing]++;
+            size++;
+        }
+
+        public MemberStandingReport build() {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (MemberStanding standing : STANDINGS) {
+                counts.put(standing.getCode(), standingCounts[standing.ordinal()]);
+            }
+            return build(counts);
+        }
+
+        private MemberStandingReport build(Map<String, Integer> counts) {
+            return new MemberStandingReport(evaluatedOn, size,
+                Arrays.copyOf(memberIds, size),
+                Arrays.copyOf(memberNames, size),
+                Arrays.copyOf(standings, size),
+                Arrays.copyOf(flags, size),
+                Arrays.copyOf(daysUntilPaymentDue, size),
+                Arrays.copyOf(consecutiveMonthsMissed, size),
+                counts);
+        }
+    }
+}
@@ -10,10 +10,13 @@ public class MessageDelivery {
     private DeliveryStatus status;
     private DeliveryChannel channel;
     private String responseNotes;
+    private int attemptCount;
+    // When the sending worker claimed the delivery; its result is only written back under that claim
+    private LocalDateTime claimedAt;
 
     // Enums
     public enum DeliveryStatus {
-        PENDING, SENT, FAILED, DELIVERED
+        PENDING, SENDING, SENT, FAILED, DELIVERED
     }
 
     public enum DeliveryChannel {
@@ -87,4 +90,20 @@ public class MessageDelivery {
     public void setResponseNotes(String responseNotes) {
         this.responseNotes = responseNotes;
     }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    public void setAttemptCount(int attemptCount) {
+        this.attemptCount = attemptCount;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
 }
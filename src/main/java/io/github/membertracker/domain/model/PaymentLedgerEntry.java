@@ -0,0 +1,66 @@
+package io.github.membertracker.domain.model;
+
+import io.github.membertracker.domain.enumeration.PaymentMethod;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * One row of the payments ledger.
+ * Carries only the member's id and name instead of the full member.
+ */
+public final class PaymentLedgerEntry {
+
+    private final Long id;
+    private final Long memberId;
+    private final String memberName;
+    private final YearMonth period;
+    private final LocalDate paymentDate;
+    private final Double amount;
+    private final PaymentMethod paymentMethod;
+    private final String notes;
+
+    public PaymentLedgerEntry(Long id, Long memberId, String memberName, YearMonth period,
+                              LocalDate paymentDate, Double amount, PaymentMethod paymentMethod, String notes) {
+        this.id = id;
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.period = period;
+        this.paymentDate = paymentDate;
+        this.amount = amount;
+        this.paymentMethod = paymentMethod;
+        this.notes = notes;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+
+    public YearMonth getPeriod() {
+        return period;
+    }
+
+    public LocalDate getPaymentDate() {
+        return paymentDate;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.membertracker.domain.model;
+
+import io.github.membertracker.domain.enumeration.PaymentMethod;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Optional filters of the payments ledger. A null field does not restrict the result;
+ * all ranges are inclusive.
+ */
+public final class PaymentLedgerFilter {
+
+    private final Long memberId;
+    private final YearMonth fromPeriod;
+    private final YearMonth toPeriod;
+    private final PaymentMethod paymentMethod;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+
+    public PaymentLedgerFilter(Long memberId, YearMonth fromPeriod, YearMonth toPeriod,
+                               PaymentMethod paymentMethod, LocalDate fromDate, LocalDate toDate) {
+        this.memberId = memberId;
+        this.fromPeriod = fromPeriod;
+        this.toPeriod = toPeriod;
+        this.paymentMethod = paymentMethod;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public YearMonth getFromPeriod() {
+        return fromPeriod;
+    }
+
+    public YearMonth getToPeriod() {
+        return toPeriod;
+    }
+
+    public PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+}
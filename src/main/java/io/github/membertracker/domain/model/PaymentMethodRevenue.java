@@ -0,0 +1,31 @@
+package io.github.membertracker.domain.model;
+
+import io.github.membertracker.domain.enumeration.PaymentMethod;
+
+/**
+ * Revenue collected through a single payment method.
+ */
+public final class PaymentMethodRevenue {
+
+    private final PaymentMethod paymentMethod;
+    private final double total;
+    private final long paymentCount;
+
+    public PaymentMethodRevenue(PaymentMethod paymentMethod, double total, long paymentCount) {
+        this.paymentMethod = paymentMethod;
+        this.total = total;
+        this.paymentCount = paymentCount;
+    }
+
+    public PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    public long getPaymentCount() {
+        return paymentCount;
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.membertracker.domain.model;
+
+import java.time.YearMonth;
+
+/**
+ * Revenue collected for a single payment period.
+ */
+public final class PeriodRevenue {
+
+    private final YearMonth period;
+    private final double total;
+    private final long paymentCount;
+
+    public PeriodRevenue(YearMonth period, double total, long paymentCount) {
+        this.period = period;
+        this.total = total;
+        this.paymentCount = paymentCount;
+    }
+
+    public YearMonth getPeriod() {
+        return period;
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    public long getPaymentCount() {
+        return paymentCount;
+    }
+}
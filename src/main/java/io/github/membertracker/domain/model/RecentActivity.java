@@ -0,0 +1,55 @@
+package io.github.membertracker.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * An entry in the dashboard's recent activity feed.
+ */
+public final class RecentActivity {
+
+    private final String id;
+    private final LocalDate date;
+    private final String type;
+    private final String description;
+
+    public RecentActivity(String id, LocalDate date, String type, String description) {
+        this.id = id;
+        this.date = date;
+        this.type = type;
+        this.description = description;
+    }
+
+    public static RecentActivity fromPayment(Payment payment) {
+        return new RecentActivity(
+            "payment_" + payment.getId(),
+            payment.getPaymentDate(),
+            "payment",
+            "Payment received: $" + String.format("%.2f", payment.getAmount())
+        );
+    }
+
+    public static RecentActivity fromCommunication(Communication communication) {
+        return new RecentActivity(
+            "comm_" + communication.getId(),
+            communication.getCreatedDate() != null ? communication.getCreatedDate().toLocalDate() : null,
+            "communication",
+            "Communication sent: " + communication.getTitle()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
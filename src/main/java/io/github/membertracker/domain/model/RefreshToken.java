@@ -0,0 +1,74 @@
+package io.github.membertracker.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A registered refresh token, identified by the {@code jti} of the JWT handed to the client.
+ * Every login starts a family; each refresh replaces the presented token with a successor in
+ * the same family. Presenting a token that was already replaced means it leaked, so the whole
+ * family is revoked.
+ */
+public final class RefreshToken {
+
+    private final String tokenId;
+    private final String familyId;
+    private final String email;
+    private final LocalDateTime expiresAt;
+    private final LocalDateTime revokedAt;
+
+    public RefreshToken(String tokenId, String familyId, String email, LocalDateTime expiresAt,
+                        LocalDateTime revokedAt) {
+        this.tokenId = tokenId;
+        this.familyId = familyId;
+        this.email = email;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    /**
+     * Starts a new token family, for a login.
+     */
+    public static RefreshToken issue(String email, LocalDateTime expiresAt) {
+        return new RefreshToken(UUID.randomUUID().toString(), UUID.randomUUID().toString(), email, expiresAt, null);
+    }
+
+    /**
+     * Creates the token that replaces this one on refresh.
+     */
+    public RefreshToken successor(LocalDateTime expiresAt) {
+        return new RefreshToken(UUID.randomUUID().toString(), familyId, email, expiresAt, null);
+    }
+
+    public RefreshToken revoke(LocalDateTime revokedAt) {
+        return isRevoked() ? this : new RefreshToken(tokenId, familyId, email, expiresAt, revokedAt);
+    }
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public LocalDateTime getRevokedAt() {
+        return revokedAt;
+    }
+}
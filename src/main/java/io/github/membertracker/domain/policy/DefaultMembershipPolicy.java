@@ -1,6 +1,7 @@
 package io.github.membertracker.domain.policy;
 
 import io.github.membertracker.domain.model.Member;
+import io.github.membertracker.domain.stats.PaymentMonthIndex;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -19,6 +20,20 @@ public class DefaultMembershipPolicy implements MembershipPolicy {
     private static final int REACTIVATION_GRACE_PERIOD_DAYS = 30;
     private static final double MINIMUM_PAYMENT_AMOUNT = 10.0;
 
+    private final PaymentMonthIndex paymentMonthIndex;
+
+    public DefaultMembershipPolicy() {
+        this(null);
+    }
+
+    /**
+     * @param paymentMonthIndex the paid-month index used for payment history checks,
+     *                          or null to approximate from the last payment date
+     */
+    public DefaultMembershipPolicy(PaymentMonthIndex paymentMonthIndex) {
+        this.paymentMonthIndex = paymentMonthIndex;
+    }
+
     @Override
     public boolean shouldDeactivate(Member member, LocalDate currentDate) {
         if (!member.isActive()) {
@@ -27,6 +42,11 @@ public class DefaultMembershipPolicy implements MembershipPolicy {
         return member.getConsecutiveMonthsMissed() >= MAX_CONSECUTIVE_MISSED_MONTHS;
     }
 
+    @Override
+    public int getDeactivationThreshold() {
+        return MAX_CONSECUTIVE_MISSED_MONTHS;
+    }
+
     @Override
     public boolean shouldSendReminder(Member member, LocalDate currentDate) {
         if (!member.isActive()) {
@@ -95,12 +115,14 @@ public class DefaultMembershipPolicy implements MembershipPolicy {
 
     /**
      * Helper method to check if a member has a payment for a specific month.
-     * This would typically be implemented by querying the payment repository,
-     * but for the policy pattern, we assume this information is available or can be determined.
+     * Uses the paid-month index once it has been built; until then the check
+     * is approximated from the last payment date.
      */
     private boolean hasPaymentForMonth(Member member, YearMonth month) {
-        // In a real implementation, this would check the payment repository
-        // For now, we'll use a simplified logic based on last payment date
+        if (paymentMonthIndex != null && paymentMonthIndex.isInitialized() && member.getId() != null) {
+            return paymentMonthIndex.hasPayment(member.getId(), month);
+        }
+
         if (member.getLastPaymentDate() == null) {
             return false;
         }
@@ -20,6 +20,15 @@ public interface MembershipPolicy {
      */
     boolean shouldDeactivate(Member member, LocalDate currentDate);
 
+    /**
+     * Returns the fewest consecutive missed months at which {@link #shouldDeactivate} can
+     * return true, so bulk jobs can narrow the candidates with an indexed query before
+     * applying the full rule.
+     *
+     * @return the minimum consecutive months missed for deactivation
+     */
+    int getDeactivationThreshold();
+
     /**
      * Determines if a payment reminder should be sent to a member.
      *
@@ -0,0 +1,13 @@
+package io.github.membertracker.domain.repository;
+
+import io.github.membertracker.domain.model.RecentActivity;
+
+import java.util.List;
+
+public interface ActivityLogRepository {
+
+    /**
+     * Returns the latest activity log entries, newest first.
+     */
+    List<RecentActivity> findMostRecent(int limit);
+}
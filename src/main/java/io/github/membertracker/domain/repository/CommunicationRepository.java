@@ -15,5 +15,14 @@ public interface CommunicationRepository {
 
     List<Communication> findBySentDateBetween(LocalDateTime start, LocalDateTime end);
 
+    List<Communication> findMostRecent(int limit);
+
     Communication save(Communication communication);
+
+    List<Communication> findByEnqueueStatus(Communication.EnqueueStatus enqueueStatus);
+
+    /**
+     * Marks a communication as fully queued once its last chunk of deliveries is committed.
+     */
+    void markEnqueued(Long id);
 }
@@ -0,0 +1,18 @@
+package io.github.membertracker.domain.repository;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+/**
+ * Watermarks of periodic jobs.
+ */
+public interface JobStateRepository {
+
+    /**
+     * Returns the last period the job has completed, locking the job's state until the
+     * current transaction ends so that concurrent runs are serialized.
+     */
+    Optional<YearMonth> lockLastProcessedPeriod(String jobName);
+
+    void saveLastProcessedPeriod(String jobName, YearMonth period);
+}
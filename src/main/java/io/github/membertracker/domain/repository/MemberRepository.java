@@ -1,10 +1,16 @@
 package io.github.membertracker.domain.repository;
 
+import io.github.membertracker.domain.enumeration.MemberSortKey;
+import io.github.membertracker.domain.model.KeysetPage;
 import io.github.membertracker.domain.model.Member;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface MemberRepository {
     List<Member> findAll();
@@ -16,6 +22,76 @@ public interface MemberRepository {
     List<Member> findMembersWithLastPaymentBefore(LocalDate date);
     
     List<Member> findByConsecutiveMonthsMissedGreaterThanEqual(int months);
+
+    /**
+     * Returns one page of members using keyset pagination.
+     *
+     * @param active only members with this active flag, or all members when null
+     * @param sortKey the ordering of the listing
+     * @param cursor the continuation token from the previous page, or null for the first page
+     * @param size the maximum number of members on the page
+     */
+    KeysetPage<Member> findPage(Boolean active, MemberSortKey sortKey, String cursor, int size);
+
+    /**
+     * Passes every member to the action in id order, reading from a forward-only cursor
+     * so the table is never held in memory as a whole.
+     */
+    void forEach(Consumer<Member> action);
+
+    /**
+     * Passes every member to the action like {@link #forEach(Consumer)}, but reads only the
+     * columns the membership policy evaluates: email and phone are left unset.
+     */
+    void forEachForEvaluation(Consumer<Member> action);
+
+    /**
+     * Returns those of the given emails that already belong to a member.
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Inserts new members in one transaction (the caller's, if there is one), sending them as
+     * batched INSERTs in chunks of 1000. Each member's id is set once its chunk is flushed.
+     */
+    void insertAll(List<Member> members);
+
+    /**
+     * Increments the consecutive months missed counter of every member who had joined by the
+     * end of the given period and has no payment for it, in one set-based update. Members who
+     * paid a later period are left alone: the months they missed before it no longer count as
+     * consecutive, which matters when several periods are caught up at once.
+     *
+     * @return the number of members updated
+     */
+    int incrementMonthsMissedWithoutPaymentFor(YearMonth period);
+
+    /**
+     * Returns the ids of the next chunk of active members, in id order after {@code afterId}.
+     */
+    List<Long> findActiveIdsAfter(long afterId, int limit);
+
+    /**
+     * Returns the next chunk of active members with at least the given consecutive months
+     * missed, in id order after {@code afterId}. Only the columns the membership policy
+     * evaluates are read: email and phone are left unset.
+     */
+    List<Member> findDeactivationCandidates(int minMonthsMissed, long afterId, int limit);
+
+    /**
+     * Deactivates the given members that are still active with at least the given consecutive
+     * months missed, and records a deactivation entry in the activity log for each of them,
+     * with one set-based statement each in a single transaction.
+     *
+     * @return the number of members deactivated
+     */
+    int deactivateAll(Collection<Long> ids, int minMonthsMissed);
+
+    long count();
+
+    long countByActive(boolean active);
+
+    long countByConsecutiveMonthsMissedGreaterThanEqual(int months);
     
     Member save(Member member);
     
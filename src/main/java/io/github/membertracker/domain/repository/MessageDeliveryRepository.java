@@ -1,7 +1,9 @@
 package io.github.membertracker.domain.repository;
 
+import io.github.membertracker.domain.model.DeliveryStatusUpdate;
 import io.github.membertracker.domain.model.MessageDelivery;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MessageDeliveryRepository {
@@ -10,4 +12,42 @@ public interface MessageDeliveryRepository {
     MessageDelivery save(MessageDelivery delivery);
     
     List<MessageDelivery> saveAll(List<MessageDelivery> deliveries);
+
+    /**
+     * Inserts one chunk of a send-to-all communication's deliveries and moves the
+     * communication's enqueue cursor from {@code afterMemberId} to {@code throughMemberId}
+     * in the same transaction. Nothing is inserted if the cursor has already moved on (another
+     * caller is queueing the same communication), so no member gets the message twice.
+     *
+     * @return true if the chunk was inserted
+     */
+    boolean saveAllAndAdvanceEnqueueCursor(Long communicationId, long afterMemberId, long throughMemberId,
+                                           List<MessageDelivery> deliveries);
+
+    /**
+     * Claims up to {@code limit} pending deliveries, oldest first, and marks them SENDING.
+     * Deliveries waiting for a retry are only claimed once their next attempt is due.
+     * Rows locked by another worker are skipped, so concurrent callers (on this or other
+     * nodes) never claim the same delivery. The claimed deliveries carry their recipient
+     * and the communication's title and content.
+     */
+    List<MessageDelivery> claimPending(int limit);
+
+    /**
+     * Writes the results of send attempts back to their deliveries in one batch and clears
+     * their claims. Retries go back to PENDING and are claimed again once
+     * {@code nextAttemptAt} has passed. A result is skipped if its delivery no longer holds
+     * the claim it was sent under, e.g. because the claim timed out and was released.
+     *
+     * @return the number of results written
+     */
+    int updateStatuses(List<DeliveryStatusUpdate> updates);
+
+    /**
+     * Returns deliveries claimed before the cutoff that never got a result (their worker
+     * died) to PENDING so they are sent again.
+     *
+     * @return the number of deliveries released
+     */
+    int releaseClaimsOlderThan(LocalDateTime cutoff);
 }
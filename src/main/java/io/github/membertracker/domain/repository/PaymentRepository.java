@@ -1,11 +1,19 @@
 package io.github.membertracker.domain.repository;
 
+import io.github.membertracker.domain.model.KeysetPage;
 import io.github.membertracker.domain.model.Member;
+import io.github.membertracker.domain.model.MemberRevenue;
 import io.github.membertracker.domain.model.Payment;
+import io.github.membertracker.domain.model.PaymentLedgerEntry;
+import io.github.membertracker.domain.model.PaymentLedgerFilter;
+import io.github.membertracker.domain.model.PaymentMethodRevenue;
+import io.github.membertracker.domain.model.PeriodRevenue;
 
 import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 public interface PaymentRepository {
     List<Payment> findAll();
@@ -19,6 +27,38 @@ public interface PaymentRepository {
     boolean existsByMemberAndPeriod(Member member, YearMonth period);
     
     Optional<Payment> findFirstByMemberOrderByPaymentDateDesc(Member member);
+
+    List<Payment> findMostRecent(int limit);
+
+    /**
+     * Returns one page of the payments ledger, newest payment first, using keyset
+     * pagination on (payment date, id).
+     *
+     * @param filter the ledger filters
+     * @param cursor the continuation token from the previous page, or null for the first page
+     * @param size the maximum number of entries on the page
+     */
+    KeysetPage<PaymentLedgerEntry> findLedgerPage(PaymentLedgerFilter filter, String cursor, int size);
+
+    /**
+     * Passes every payment, as a ledger entry, to the action in id order, reading from a
+     * forward-only cursor so the table is never held in memory as a whole.
+     */
+    void forEachLedgerEntry(Consumer<PaymentLedgerEntry> action);
+
+    /**
+     * Passes the member id and period of every payment to the action, reading from a
+     * forward-only cursor over just those two columns.
+     */
+    void forEachPaidPeriod(BiConsumer<Long, YearMonth> action);
+
+    List<PeriodRevenue> findRevenueByPeriod();
+
+    List<PeriodRevenue> findRevenueByPeriod(YearMonth from, YearMonth to);
+
+    List<PaymentMethodRevenue> findRevenueByPaymentMethod(YearMonth from, YearMonth to);
+
+    List<MemberRevenue> findRevenueByMember(YearMonth from, YearMonth to, int limit);
     
     Payment save(Payment payment);
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package io.github.membertracker.domain.repository;
+
+import io.github.membertracker.domain.model.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository {
+
+    Optional<RefreshToken> findById(String tokenId);
+
+    void save(RefreshToken token);
+
+    /**
+     * Revokes a token if it is still active. Only one of several concurrent callers
+     * (on this or other nodes) gets true, which makes rotation safe against replays.
+     *
+     * @return true if this call revoked the token
+     */
+    boolean revokeIfActive(String tokenId, LocalDateTime revokedAt);
+
+    /**
+     * Revokes every active token of a family.
+     *
+     * @return the number of tokens revoked
+     */
+    int revokeFamily(String familyId, LocalDateTime revokedAt);
+
+    /**
+     * @return the number of tokens deleted
+     */
+    int deleteExpiredBefore(LocalDateTime cutoff);
+}
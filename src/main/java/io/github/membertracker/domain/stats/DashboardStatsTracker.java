@@ -0,0 +1,151 @@
+package io.github.membertracker.domain.stats;
+
+import io.github.membertracker.domain.model.DashboardStats;
+import io.github.membertracker.domain.model.Member;
+import io.github.membertracker.domain.model.Payment;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory running totals behind the dashboard.
+ * The member and payment use cases push deltas after their writes succeed, so reading
+ * the figures never touches the database. A periodic reconciliation replaces the
+ * totals with freshly counted values to correct any drift (for example from writes
+ * that bypass the use cases). Deltas pushed while the counts are being taken are kept
+ * aside and applied on top of them, so the reconciliation does not lose them.
+ */
+public class DashboardStatsTracker {
+
+    private long totalMembers;
+    private long activeMembers;
+    private long overdueMembers;
+    private final Map<YearMonth, Double> revenueByPeriod = new HashMap<>();
+    private LocalDateTime lastReconciledAt;
+    private Deltas pendingDeltas;
+
+    /**
+     * Returns true once the totals have been seeded by a reconciliation.
+     */
+    public synchronized boolean isInitialized() {
+        return lastReconciledAt != null;
+    }
+
+    public synchronized LocalDateTime getLastReconciledAt() {
+        return lastReconciledAt;
+    }
+
+    public synchronized void memberAdded(Member member) {
+        addMembers(1, member.isActive() ? 1 : 0, member.isPaymentOverdue() ? 1 : 0);
+    }
+
+    public synchronized void memberRemoved(Member member) {
+        addMembers(-1, member.isActive() ? -1 : 0, member.isPaymentOverdue() ? -1 : 0);
+    }
+
+    /**
+     * Applies the change in a member's active/overdue flags.
+     *
+     * @param wasActive whether the member was active before the update
+     * @param wasOverdue whether the member was overdue before the update
+     * @param member the member as it was saved
+     */
+    public synchronized void memberUpdated(boolean wasActive, boolean wasOverdue, Member member) {
+        addMembers(0, delta(wasActive, member.isActive()), delta(wasOverdue, member.isPaymentOverdue()));
+    }
+
+    /**
+     * Applies a bulk deactivation of members that were all active before.
+     */
+    public synchronized void membersDeactivated(int count) {
+        addMembers(0, -count, 0);
+    }
+
+    public synchronized void paymentRecorded(Payment payment) {
+        if (payment.getPeriod() != null && payment.getAmount() != null) {
+            addRevenue(payment.getPeriod(), payment.getAmount());
+        }
+    }
+
+    public synchronized void paymentRemoved(Payment payment) {
+        if (payment.getPeriod() != null && payment.getAmount() != null) {
+            addRevenue(payment.getPeriod(), -payment.getAmount());
+        }
+    }
+
+    /**
+     * Starts a reconciliation. Deltas pushed between this call and {@link #reset} are
+     * applied on top of the counted values, so writes made while counting are not lost.
+     */
+    public synchronized void startReconcile() {
+        pendingDeltas = new Deltas();
+    }
+
+    /**
+     * Replaces all running totals with values counted from the database, plus any deltas
+     * pushed since {@link #startReconcile()}.
+     */
+    public synchronized void reset(long totalMembers, long activeMembers, long overdueMembers,
+                                   Map<YearMonth, Double> revenueByPeriod) {
+        this.totalMembers = totalMembers;
+        this.activeMembers = activeMembers;
+        this.overdueMembers = overdueMembers;
+        this.revenueByPeriod.clear();
+        this.revenueByPeriod.putAll(revenueByPeriod);
+        if (pendingDeltas != null) {
+            this.totalMembers += pendingDeltas.totalMembers;
+            this.activeMembers += pendingDeltas.activeMembers;
+            this.overdueMembers += pendingDeltas.overdueMembers;
+            pendingDeltas.revenueByPeriod.forEach((period, amount) -> this.revenueByPeriod.merge(period, amount, Double::sum));
+            pendingDeltas = null;
+        }
+        this.lastReconciledAt = LocalDateTime.now();
+    }
+
+    public synchronized DashboardStats snapshot(YearMonth period) {
+        return new DashboardStats(
+            period,
+            totalMembers,
+            activeMembers,
+            overdueMembers,
+            revenueByPeriod.getOrDefault(period, 0.0)
+        );
+    }
+
+    private void addMembers(long total, long active, long overdue) {
+        totalMembers += total;
+        activeMembers += active;
+        overdueMembers += overdue;
+        if (pendingDeltas != null) {
+            pendingDeltas.totalMembers += total;
+            pendingDeltas.activeMembers += active;
+            pendingDeltas.overdueMembers += overdue;
+        }
+    }
+
+    private void addRevenue(YearMonth period, double amount) {
+        revenueByPeriod.merge(period, amount, Double::sum);
+        if (pendingDeltas != null) {
+            pendingDeltas.revenueByPeriod.merge(period, amount, Double::sum);
+        }
+    }
+
+    private static int delta(boolean before, boolean after) {
+        if (before == after) {
+            return 0;
+        }
+        return after ? 1 : -1;
+    }
+
+    /**
+     * Deltas pushed while a reconciliation is counting.
+     */
+    private static final class Deltas {
+        private long totalMembers;
+        private long activeMembers;
+        private long overdueMembers;
+        private final Map<YearMonth, Double> revenueByPeriod = new HashMap<>();
+    }
+}
@@ -0,0 +1,191 @@
+package io.github.membertracker.domain.stats;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory index of the months each member has paid for.
+ * Every member has a bitmap of paid months backed by a long array, where bit i stands for
+ * the i-th month after the member's base month. Checking a month is a single bit test and
+ * a missed-months streak is found with a leading-zero count per 64 months, so neither needs
+ * a database round trip.
+ * The index is built from the payment table in one scan and the payment use cases mark new
+ * payments as they are saved. A periodic rebuild corrects drift from writes that bypass them.
+ */
+public class PaymentMonthIndex {
+
+    private Map<Long, MonthBits> paidMonths = new HashMap<>();
+    private List<PaidMonth> recordedDuringRebuild;
+    private LocalDateTime lastRebuiltAt;
+
+    /**
+     * Returns true once the index has been built from the payment table.
+     */
+    public synchronized boolean isInitialized() {
+        return lastRebuiltAt != null;
+    }
+
+    public synchronized LocalDateTime getLastRebuiltAt() {
+        return lastRebuiltAt;
+    }
+
+    public synchronized boolean hasPayment(Long memberId, YearMonth period) {
+        MonthBits bits = paidMonths.get(memberId);
+        return bits != null && bits.get(epochMonth(period));
+    }
+
+    /**
+     * Counts the unpaid months going back from the given month, stopping at the first paid month.
+     *
+     * @param memberId the member to check
+     * @param through the most recent month to consider
+     * @param limit the most months to count
+     * @return the number of consecutive unpaid months ending at {@code through}, at most {@code limit}
+     */
+    public synchronized int consecutiveMonthsMissed(Long memberId, YearMonth through, int limit) {
+        if (limit <= 0) {
+            return 0;
+        }
+        int end = epochMonth(through);
+        MonthBits bits = paidMonths.get(memberId);
+        if (bits == null) {
+            return limit;
+        }
+        long lastPaid = bits.lastSetAtOrBefore(end);
+        if (lastPaid == Long.MIN_VALUE) {
+            return limit;
+        }
+        return (int) Math.min(limit, end - lastPaid);
+    }
+
+    public synchronized void paymentRecorded(Long memberId, YearMonth period) {
+        if (memberId == null || period == null) {
+            return;
+        }
+        paidMonths.computeIfAbsent(memberId, id -> new MonthBits()).set(epochMonth(period));
+        if (recordedDuringRebuild != null) {
+            recordedDuringRebuild.add(new PaidMonth(memberId, period));
+        }
+    }
+
+    public synchronized void memberRemoved(Long memberId) {
+        paidMonths.remove(memberId);
+    }
+
+    /**
+     * Starts a rebuild. Payments recorded between this call and {@link #reset(Builder)} are
+     * replayed onto the rebuilt index, so a scan that misses them does not lose them.
+     */
+    public synchronized Builder startRebuild() {
+        recordedDuringRebuild = new ArrayList<>();
+        return new Builder();
+    }
+
+    /**
+     * Replaces the whole index with the bitmaps collected by the builder.
+     */
+    public synchronized void reset(Builder builder) {
+        paidMonths = builder.paidMonths;
+        if (recordedDuringRebuild != null) {
+            for (PaidMonth paid : recordedDuringRebuild) {
+                paidMonths.computeIfAbsent(paid.memberId, id -> new MonthBits()).set(epochMonth(paid.period));
+            }
+            recordedDuringRebuild = null;
+        }
+        lastRebuiltAt = LocalDateTime.now();
+    }
+
+    private static int epochMonth(YearMonth period) {
+        return period.getYear() * 12 + period.getMonthValue() - 1;
+    }
+
+    /**
+     * Collects paid months off the lock while the payment table is scanned.
+     */
+    public static class Builder {
+
+        private final Map<Long, MonthBits> paidMonths = new HashMap<>();
+
+        public void add(Long memberId, YearMonth period) {
+            if (memberId != null && period != null) {
+                paidMonths.computeIfAbsent(memberId, id -> new MonthBits()).set(epochMonth(period));
+            }
+        }
+    }
+
+    private static final class PaidMonth {
+        private final Long memberId;
+        private final YearMonth period;
+
+        private PaidMonth(Long memberId, YearMonth period) {
+            this.memberId = memberId;
+            this.period = period;
+        }
+    }
+
+    /**
+     * Growable bitmap of months. The base is kept on a 64-month boundary so that
+     * growing towards earlier months only shifts whole words.
+     */
+    private static final class MonthBits {
+
+        private int base;
+        private long[] words = new long[0];
+
+        boolean get(int month) {
+            int offset = month - base;
+            if (offset < 0 || (offset >>> 6) >= words.length) {
+                return false;
+            }
+            return (words[offset >>> 6] & (1L << offset)) != 0;
+        }
+
+        void set(int month) {
+            if (words.length == 0) {
+                base = Math.floorDiv(month, 64) * 64;
+                words = new long[1];
+            } else if (month < base) {
+                int newBase = Math.floorDiv(month, 64) * 64;
+                int shift = (base - newBase) >>> 6;
+                long[] grown = new long[words.length + shift];
+                System.arraycopy(words, 0, grown, shift, words.length);
+                words = grown;
+                base = newBase;
+            }
+            int offset = month - base;
+            if ((offset >>> 6) >= words.length) {
+                words = Arrays.copyOf(words, (offset >>> 6) + 1);
+            }
+            words[offset >>> 6] |= 1L << offset;
+        }
+
+        /**
+         * Returns the latest set month not after the given month, or Long.MIN_VALUE if there is none.
+         */
+        long lastSetAtOrBefore(int month) {
+            int offset = month - base;
+            if (offset < 0) {
+                return Long.MIN_VALUE;
+            }
+            int word = offset >>> 6;
+            long mask = -1L >>> (63 - (offset & 63));
+            if (word >= words.length) {
+                word = words.length - 1;
+                mask = -1L;
+            }
+            for (; word >= 0; word--) {
+                long bits = words[word] & mask;
+                if (bits != 0) {
+                    return base + word * 64L + 63 - Long.numberOfLeadingZeros(bits);
+                }
+                mask = -1L;
+            }
+            return Long.MIN_VALUE;
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package io.github.membertracker.infrastructure;
 
+import io.github.membertracker.domain.exception.UserDomainException;
+import io.github.membertracker.domain.model.RefreshToken;
 import io.github.membertracker.infrastructure.config.AuthProperties;
 import io.github.membertracker.usecase.AuthenticateUserUseCase;
+import io.github.membertracker.usecase.IssueRefreshTokenUseCase;
 import io.github.membertracker.usecase.LoadUserByUsernameUseCase;
 import io.github.membertracker.usecase.RegisterUserUseCase;
+import io.github.membertracker.usecase.RevokeRefreshTokenUseCase;
+import io.github.membertracker.usecase.RotateRefreshTokenUseCase;
 import io.github.membertracker.utils.CookieUtils;
 import io.github.membertracker.utils.JwtUtils;
+import io.github.membertracker.utils.JwtVerifier;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,30 +32,47 @@ import java.util.Map;
 @RequestMapping("/api/auth")
 public class AuthController {
 
+    private static final int LOGIN_RETRY_AFTER_SECONDS = 5;
+
     private final AuthenticateUserUseCase authenticateUserUseCase;
     private final RegisterUserUseCase registerUserUseCase;
     private final LoadUserByUsernameUseCase loadUserByUsernameUseCase;
+    private final IssueRefreshTokenUseCase issueRefreshTokenUseCase;
+    private final RotateRefreshTokenUseCase rotateRefreshTokenUseCase;
+    private final RevokeRefreshTokenUseCase revokeRefreshTokenUseCase;
     private final CookieUtils cookieUtils;
     private final AuthProperties authProperties;
+    private final JwtVerifier jwtVerifier;
 
     public AuthController(AuthenticateUserUseCase authenticateUserUseCase,
                          RegisterUserUseCase registerUserUseCase,
                          LoadUserByUsernameUseCase loadUserByUsernameUseCase,
-                         CookieUtils cookieUtils, AuthProperties authProperties) {
+                         IssueRefreshTokenUseCase issueRefreshTokenUseCase,
+                         RotateRefreshTokenUseCase rotateRefreshTokenUseCase,
+                         RevokeRefreshTokenUseCase revokeRefreshTokenUseCase,
+                         CookieUtils cookieUtils, AuthProperties authProperties,
+                         JwtVerifier jwtVerifier) {
         this.authenticateUserUseCase = authenticateUserUseCase;
         this.registerUserUseCase = registerUserUseCase;
         this.loadUserByUsernameUseCase = loadUserByUsernameUseCase;
+        this.issueRefreshTokenUseCase = issueRefreshTokenUseCase;
+        this.rotateRefreshTokenUseCase = rotateRefreshTokenUseCase;
+        this.revokeRefreshTokenUseCase = revokeRefreshTokenUseCase;
         this.cookieUtils = cookieUtils;
         this.authProperties = authProperties;
+        this.jwtVerifier = jwtVerifier;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<Object> login(@RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<Object> login(@RequestBody LoginRequest loginRequest, HttpServletRequest request) {
         try {
-            var user = authenticateUserUseCase.invoke(loginRequest.getEmail(), loginRequest.getPassword());
+            var user = authenticateUserUseCase.invoke(loginRequest.getEmail(), loginRequest.getPassword(),
+                request.getRemoteAddr());
 
             String accessToken = JwtUtils.generateAccessToken(user, authProperties.getJwtSecret(), authProperties.getAccessTtlSeconds());
-            String refreshToken = JwtUtils.generateRefreshToken(user, authProperties.getJwtSecret(), authProperties.getRefreshTtlSeconds());
+            RefreshToken registered = issueRefreshTokenUseCase.invoke(user.getUsername());
+            String refreshToken = JwtUtils.generateRefreshToken(user, registered.getTokenId(),
+                authProperties.getJwtSecret(), authProperties.getRefreshTtlSeconds());
 
             ResponseCookie accessCookie = cookieUtils.buildAccessCookie(accessToken);
             ResponseCookie refreshCookie = cookieUtils.buildRefreshCookie(refreshToken);
@@ -68,6 +93,13 @@ public class AuthController {
                     .header(HttpHeaders.SET_COOKIE, refreshCookie.toString())
                     .body(response);
 
+        } catch (UserDomainException e) {
+            if (e.isThrottled()) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(LOGIN_RETRY_AFTER_SECONDS))
+                        .body(Map.of("error", e.getMessage()));
+            }
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -86,15 +118,27 @@ public class AuthController {
                 return ResponseEntity.badRequest().body(Map.of("error", "Refresh token not found"));
             }
             
-            if (!JwtUtils.validateToken(refreshToken, authProperties.getJwtSecret())) {
+            Claims claims = jwtVerifier.verify(refreshToken);
+            if (!JwtUtils.isRefreshToken(claims)) {
                 return ResponseEntity.badRequest().body(Map.of("error", "Invalid refresh token"));
             }
             
-            String username = JwtUtils.extractUsername(refreshToken, authProperties.getJwtSecret());
+            String username = claims.getSubject();
+            RefreshToken successor;
+            try {
+                successor = rotateRefreshTokenUseCase.invoke(claims.getId(), username);
+            } catch (UserDomainException e) {
+                // Rejected or replayed: drop the cookies so the client logs in again
+                return ResponseEntity.badRequest()
+                        .header(HttpHeaders.SET_COOKIE, cookieUtils.buildClearAccessCookie().toString())
+                        .header(HttpHeaders.SET_COOKIE, cookieUtils.buildClearRefreshCookie().toString())
+                        .body(Map.of("error", e.getMessage()));
+            }
             UserDetails user = loadUserByUsernameUseCase.invoke(username);
             
             String newAccessToken = JwtUtils.generateAccessToken(user, authProperties.getJwtSecret(), authProperties.getAccessTtlSeconds());
-            String newRefreshToken = JwtUtils.generateRefreshToken(user, authProperties.getJwtSecret(), authProperties.getRefreshTtlSeconds());
+            String newRefreshToken = JwtUtils.generateRefreshToken(user, successor.getTokenId(),
+                authProperties.getJwtSecret(), authProperties.getRefreshTtlSeconds());
             
             ResponseCookie accessCookie = cookieUtils.buildAccessCookie(newAccessToken);
             ResponseCookie refreshCookie = cookieUtils.buildRefreshCookie(newRefreshToken);
@@ -110,7 +154,14 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout() {
+    public ResponseEntity<Void> logout(HttpServletRequest request) {
+        // Revoke the session's refresh tokens so a copied cookie cannot be used any more
+        String refreshToken = getRefreshTokenFromCookie(request);
+        Claims claims = refreshToken != null ? jwtVerifier.verify(refreshToken) : null;
+        if (JwtUtils.isRefreshToken(claims)) {
+            revokeRefreshTokenUseCase.invoke(claims.getId());
+        }
+
         // Clear both cookies
         ResponseCookie clearAccessCookie = cookieUtils.buildClearAccessCookie();
         ResponseCookie clearRefreshCookie = cookieUtils.buildClearRefreshCookie();
@@ -72,12 +72,30 @@ public class CommunicationController {
         return ResponseEntity.ok(createCommunicationUseCase.invoke(communication));
     }
 
+    /**
+     * Queues the communication for every active member.
+     * The response is the saved communication without its {@code deliveries}, which stay
+     * empty however many members were queued; list them with {@code GET /{id}/deliveries}.
+     * {@code enqueueStatus} is ENQUEUED once every member has been queued.
+     */
     @PostMapping("/send-to-all")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Communication> sendToAllMembers(@Valid @RequestBody Communication communication) {
         return ResponseEntity.ok(sendCommunicationToAllMembersUseCase.invoke(communication));
     }
 
+    /**
+     * Finishes queueing a send-to-all communication that was interrupted (still ENQUEUING),
+     * continuing after the last member it was queued for.
+     */
+    @PostMapping("/{id}/resume-send")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<Communication> resumeSendToAllMembers(@PathVariable @Positive Long id) {
+        return sendCommunicationToAllMembersUseCase.resume(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @PostMapping("/send-to-overdue/{months}")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Communication> sendToOverdueMembers(
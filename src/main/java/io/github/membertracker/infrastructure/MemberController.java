@@ -1,9 +1,18 @@
 package io.github.membertracker.infrastructure;
 
+import io.github.membertracker.domain.enumeration.MemberSortKey;
+import io.github.membertracker.domain.enumeration.MemberStanding;
+import io.github.membertracker.domain.exception.MemberDomainException;
+import io.github.membertracker.domain.model.KeysetPage;
 import io.github.membertracker.domain.model.Member;
+import io.github.membertracker.domain.model.MemberImportResult;
+import io.github.membertracker.domain.model.MemberStandingReport;
+import io.github.membertracker.infrastructure.importer.MemberImportReader;
 import io.github.membertracker.usecase.*;
 import io.github.membertracker.utils.CsvUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,20 +27,34 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.PrintWriter;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/members")
 @Validated
 public class MemberController {
 
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final int EXPORT_FLUSH_ROWS = 500;
+
     private final GetAllMembersUseCase getAllMembersUseCase;
     private final GetMemberByIdUseCase getMemberByIdUseCase;
     private final GetActiveMembersUseCase getActiveMembersUseCase;
@@ -39,6 +62,11 @@ public class MemberController {
     private final SaveMemberUseCase saveMemberUseCase;
     private final DeleteMemberUseCase deleteMemberUseCase;
     private final GetMembersWithMissedPaymentsUseCase getMembersWithMissedPaymentsUseCase;
+    private final GetMembersPageUseCase getMembersPageUseCase;
+    private final ExportMembersUseCase exportMembersUseCase;
+    private final ImportMembersUseCase importMembersUseCase;
+    private final EvaluateMemberStandingsUseCase evaluateMemberStandingsUseCase;
+    private final ObjectMapper objectMapper;
 
     @Autowired
     public MemberController(GetAllMembersUseCase getAllMembersUseCase,
@@ -47,7 +75,12 @@ public class MemberController {
                            GetInactiveMembersUseCase getInactiveMembersUseCase,
                            SaveMemberUseCase saveMemberUseCase,
                            DeleteMemberUseCase deleteMemberUseCase,
-                           GetMembersWithMissedPaymentsUseCase getMembersWithMissedPaymentsUseCase) {
+                           GetMembersWithMissedPaymentsUseCase getMembersWithMissedPaymentsUseCase,
+                           GetMembersPageUseCase getMembersPageUseCase,
+                           ExportMembersUseCase exportMembersUseCase,
+                           ImportMembersUseCase importMembersUseCase,
+                           EvaluateMemberStandingsUseCase evaluateMemberStandingsUseCase,
+                           ObjectMapper objectMapper) {
         this.getAllMembersUseCase = getAllMembersUseCase;
         this.getMemberByIdUseCase = getMemberByIdUseCase;
         this.getActiveMembersUseCase = getActiveMembersUseCase;
@@ -55,14 +88,45 @@ public class MemberController {
         this.saveMemberUseCase = saveMemberUseCase;
         this.deleteMemberUseCase = deleteMemberUseCase;
         this.getMembersWithMissedPaymentsUseCase = getMembersWithMissedPaymentsUseCase;
+        this.getMembersPageUseCase = getMembersPageUseCase;
+        this.exportMembersUseCase = exportMembersUseCase;
+        this.importMembersUseCase = importMembersUseCase;
+        this.evaluateMemberStandingsUseCase = evaluateMemberStandingsUseCase;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * @deprecated loads every member in one response; use {@code /page} instead
+     */
+    @Deprecated
     @GetMapping
     @PreAuthorize("hasRole('USER')")
     public List<Member> getAllMembers() {
         return getAllMembersUseCase.invoke();
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('USER')")
+    public KeysetPage<Member> getMembersPage(@RequestParam(defaultValue = "all") String status,
+                                             @RequestParam(defaultValue = "name") String sort,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "50") @Min(1) @Max(200) int size) {
+        return getMembersPageUseCase.invoke(parseStatus(status), MemberSortKey.fromCode(sort),
+                cursor == null || cursor.isBlank() ? null : cursor, size);
+    }
+
+    @GetMapping("/standing")
+    @PreAuthorize("hasRole('USER')")
+    public MemberStandingReport getMemberStandings(@RequestParam(required = false) List<String> standing) {
+        Set<MemberStanding> standings = EnumSet.noneOf(MemberStanding.class);
+        if (standing != null) {
+            for (String code : standing) {
+                standings.add(MemberStanding.fromCode(code.trim()));
+            }
+        }
+        return evaluateMemberStandingsUseCase.invoke(standings);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Member> getMemberById(@PathVariable @Positive Long id) {
@@ -71,12 +135,20 @@ public class MemberController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * @deprecated loads every active member in one response; use {@code /page?status=active} instead
+     */
+    @Deprecated
     @GetMapping("/active")
     @PreAuthorize("hasRole('USER')")
     public List<Member> getActiveMembers() {
         return getActiveMembersUseCase.invoke();
     }
 
+    /**
+     * @deprecated loads every inactive member in one response; use {@code /page?status=inactive} instead
+     */
+    @Deprecated
     @GetMapping("/inactive")
     @PreAuthorize("hasRole('USER')")
     public List<Member> getInactiveMembers() {
@@ -89,6 +161,22 @@ public class MemberController {
         return saveMemberUseCase.invoke(member);
     }
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('USER')")
+    public MemberImportResult importMembersCsv(InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return importMembersUseCase.invoke(MemberImportReader.csv(reader));
+        }
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    @PreAuthorize("hasRole('USER')")
+    public MemberImportResult importMembersNdjson(InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return importMembersUseCase.invoke(MemberImportReader.ndjson(reader, objectMapper));
+        }
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Member> updateMember(@PathVariable @Positive Long id, @Valid @RequestBody Member member) {
@@ -120,28 +208,40 @@ public class MemberController {
     @GetMapping("/export")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<StreamingResponseBody> exportMembers() {
-        List<Member> members = getAllMembersUseCase.invoke();
-        
         DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_LOCAL_DATE;
-        
+
+        // Rows are written while the database cursor advances, flushing every EXPORT_FLUSH_ROWS
         StreamingResponseBody stream = out -> {
-            PrintWriter writer = new PrintWriter(out);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+            int[] rowCount = {0};
             try {
                 // CSV Header
-                writer.println("id,name,email,phone,joinDate,active,consecutiveMonthsMissed");
-                
+                writer.write("id,name,email,phone,joinDate,active,consecutiveMonthsMissed\n");
+
                 // CSV Data
-                for (Member member : members) {
-                    writer.printf("%s,%s,%s,%s,%s,%s,%d%n",
-                        member.getId() != null ? member.getId() : "0",
-                        CsvUtils.escapeCsv(member.getName()),
-                        CsvUtils.escapeCsv(member.getEmail()),
-                        CsvUtils.escapeCsv(member.getPhone()),
-                        member.getJoinDate() != null ? member.getJoinDate().format(dateFormatter) : "",
-                        member.isActive(),
-                        member.getConsecutiveMonthsMissed()
-                    );
-                }
+                exportMembersUseCase.invoke(member -> {
+                    try {
+                        writer.write(member.getId() != null ? member.getId().toString() : "0");
+                        writer.write(',');
+                        writer.write(CsvUtils.escapeCsv(member.getName()));
+                        writer.write(',');
+                        writer.write(CsvUtils.escapeCsv(member.getEmail()));
+                        writer.write(',');
+                        writer.write(CsvUtils.escapeCsv(member.getPhone()));
+                        writer.write(',');
+                        writer.write(member.getJoinDate() != null ? member.getJoinDate().format(dateFormatter) : "");
+                        writer.write(',');
+                        writer.write(String.valueOf(member.isActive()));
+                        writer.write(',');
+                        writer.write(String.valueOf(member.getConsecutiveMonthsMissed()));
+                        writer.write('\n');
+                        if (++rowCount[0] % EXPORT_FLUSH_ROWS == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
             } catch (Exception e) {
                 System.err.println("Error exporting members: " + e.getMessage());
                 throw new RuntimeException("Error exporting members", e);
@@ -149,10 +249,23 @@ public class MemberController {
                 writer.flush();
             }
         };
-        
+
         return ResponseEntity.ok()
             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=members.csv")
             .contentType(MediaType.parseMediaType("text/csv"))
             .body(stream);
     }
+
+    private static Boolean parseStatus(String status) {
+        switch (status) {
+            case "all":
+                return null;
+            case "active":
+                return true;
+            case "inactive":
+                return false;
+            default:
+                throw MemberDomainException.invalidMemberData("status", status);
+        }
+    }
 }
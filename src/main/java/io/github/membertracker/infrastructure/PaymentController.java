@@ -1,11 +1,18 @@
 package io.github.membertracker.infrastructure;
 
+import io.github.membertracker.domain.enumeration.PaymentMethod;
+import io.github.membertracker.domain.model.KeysetPage;
 import io.github.membertracker.domain.model.Payment;
+import io.github.membertracker.domain.model.PaymentLedgerEntry;
+import io.github.membertracker.domain.model.PaymentLedgerFilter;
 import io.github.membertracker.usecase.*;
 import io.github.membertracker.utils.CsvUtils;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,11 +24,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.PrintWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
@@ -30,23 +46,32 @@ import java.util.List;
 @Validated
 public class PaymentController {
 
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final int EXPORT_FLUSH_ROWS = 500;
+
     private final GetAllPaymentsUseCase getAllPaymentsUseCase;
     private final GetPaymentByIdUseCase getPaymentByIdUseCase;
     private final GetPaymentsByMemberUseCase getPaymentsByMemberUseCase;
     private final RecordPaymentUseCase recordPaymentUseCase;
     private final GetMemberByIdUseCase getMemberByIdUseCase;
+    private final GetPaymentLedgerUseCase getPaymentLedgerUseCase;
+    private final ExportPaymentsUseCase exportPaymentsUseCase;
 
     @Autowired
     public PaymentController(GetAllPaymentsUseCase getAllPaymentsUseCase,
                             GetPaymentByIdUseCase getPaymentByIdUseCase,
                             GetPaymentsByMemberUseCase getPaymentsByMemberUseCase,
                             RecordPaymentUseCase recordPaymentUseCase,
-                            GetMemberByIdUseCase getMemberByIdUseCase) {
+                            GetMemberByIdUseCase getMemberByIdUseCase,
+                            GetPaymentLedgerUseCase getPaymentLedgerUseCase,
+                            ExportPaymentsUseCase exportPaymentsUseCase) {
         this.getAllPaymentsUseCase = getAllPaymentsUseCase;
         this.getPaymentByIdUseCase = getPaymentByIdUseCase;
         this.getPaymentsByMemberUseCase = getPaymentsByMemberUseCase;
         this.recordPaymentUseCase = recordPaymentUseCase;
         this.getMemberByIdUseCase = getMemberByIdUseCase;
+        this.getPaymentLedgerUseCase = getPaymentLedgerUseCase;
+        this.exportPaymentsUseCase = exportPaymentsUseCase;
     }
 
     @GetMapping
@@ -55,6 +80,26 @@ public class PaymentController {
         return getAllPaymentsUseCase.invoke();
     }
 
+    @GetMapping("/ledger")
+    @PreAuthorize("hasRole('USER')")
+    public KeysetPage<PaymentLedgerEntry> getPaymentLedger(@RequestParam(required = false) @Positive Long memberId,
+                                                           @RequestParam(required = false) YearMonth fromPeriod,
+                                                           @RequestParam(required = false) YearMonth toPeriod,
+                                                           @RequestParam(required = false) String method,
+                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "50") @Min(1) @Max(200) int size) {
+        PaymentLedgerFilter filter = new PaymentLedgerFilter(
+                memberId,
+                fromPeriod,
+                toPeriod,
+                method == null || method.isBlank() ? null : PaymentMethod.fromCode(method),
+                fromDate,
+                toDate);
+        return getPaymentLedgerUseCase.invoke(filter, cursor == null || cursor.isBlank() ? null : cursor, size);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Payment> getPaymentById(@PathVariable @Positive Long id) {
@@ -91,28 +136,40 @@ public class PaymentController {
     @GetMapping("/export")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<StreamingResponseBody> exportPayments() {
-        List<Payment> payments = getAllPaymentsUseCase.invoke();
-        
         DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_LOCAL_DATE;
-        
+
+        // Rows are written while the database cursor advances, flushing every EXPORT_FLUSH_ROWS
         StreamingResponseBody stream = out -> {
-            PrintWriter writer = new PrintWriter(out);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+            int[] rowCount = {0};
             try {
                 // CSV Header
-                writer.println("id,memberId,memberName,amount,paymentDate,period,method");
-                
+                writer.write("id,memberId,memberName,amount,paymentDate,period,method\n");
+
                 // CSV Data
-                for (Payment payment : payments) {
-                    writer.printf("%s,%s,%s,%.2f,%s,%s,%s%n",
-                        payment.getId() != null ? payment.getId() : "0",
-                        payment.getMember() != null && payment.getMember().getId() != null ? payment.getMember().getId() : "0",
-                        CsvUtils.escapeCsv(payment.getMember() != null ? payment.getMember().getName() : ""),
-                        payment.getAmount() != null ? payment.getAmount() : 0.0,
-                        payment.getPaymentDate() != null ? payment.getPaymentDate().format(dateFormatter) : "",
-                        payment.getPeriod() != null ? payment.getPeriod().toString() : "",
-                        payment.getPaymentMethod() != null ? payment.getPaymentMethod().name() : ""
-                    );
-                }
+                exportPaymentsUseCase.invoke(payment -> {
+                    try {
+                        writer.write(payment.getId() != null ? payment.getId().toString() : "0");
+                        writer.write(',');
+                        writer.write(payment.getMemberId() != null ? payment.getMemberId().toString() : "0");
+                        writer.write(',');
+                        writer.write(CsvUtils.escapeCsv(payment.getMemberName()));
+                        writer.write(',');
+                        writer.write(formatAmount(payment.getAmount()));
+                        writer.write(',');
+                        writer.write(payment.getPaymentDate() != null ? payment.getPaymentDate().format(dateFormatter) : "");
+                        writer.write(',');
+                        writer.write(payment.getPeriod() != null ? payment.getPeriod().toString() : "");
+                        writer.write(',');
+                        writer.write(payment.getPaymentMethod() != null ? payment.getPaymentMethod().name() : "");
+                        writer.write('\n');
+                        if (++rowCount[0] % EXPORT_FLUSH_ROWS == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
             } catch (Exception e) {
                 System.err.println("Error exporting payments: " + e.getMessage());
                 throw new RuntimeException("Error exporting payments", e);
@@ -120,10 +177,16 @@ public class PaymentController {
                 writer.flush();
             }
         };
-        
+
         return ResponseEntity.ok()
             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=payments.csv")
             .contentType(MediaType.parseMediaType("text/csv"))
             .body(stream);
     }
+
+    private static String formatAmount(Double amount) {
+        return BigDecimal.valueOf(amount != null ? amount : 0.0)
+            .setScale(2, RoundingMode.HALF_UP)
+            .toPlainString();
+    }
 }
@@ -0,0 +1,70 @@
+package io.github.membertracker.infrastructure;
+
+import io.github.membertracker.domain.model.MemberRevenue;
+import io.github.membertracker.domain.model.PaymentMethodRevenue;
+import io.github.membertracker.domain.model.PeriodRevenue;
+import io.github.membertracker.usecase.GetRevenueByMemberUseCase;
+import io.github.membertracker.usecase.GetRevenueByPaymentMethodUseCase;
+import io.github.membertracker.usecase.GetRevenueByPeriodUseCase;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/revenue")
+@Validated
+public class RevenueController {
+
+    private static final int DEFAULT_RANGE_MONTHS = 12;
+
+    private final GetRevenueByPeriodUseCase getRevenueByPeriodUseCase;
+    private final GetRevenueByPaymentMethodUseCase getRevenueByPaymentMethodUseCase;
+    private final GetRevenueByMemberUseCase getRevenueByMemberUseCase;
+
+    @Autowired
+    public RevenueController(GetRevenueByPeriodUseCase getRevenueByPeriodUseCase,
+                             GetRevenueByPaymentMethodUseCase getRevenueByPaymentMethodUseCase,
+                             GetRevenueByMemberUseCase getRevenueByMemberUseCase) {
+        this.getRevenueByPeriodUseCase = getRevenueByPeriodUseCase;
+        this.getRevenueByPaymentMethodUseCase = getRevenueByPaymentMethodUseCase;
+        this.getRevenueByMemberUseCase = getRevenueByMemberUseCase;
+    }
+
+    @GetMapping("/by-period")
+    @PreAuthorize("hasRole('USER')")
+    public List<PeriodRevenue> getRevenueByPeriod(@RequestParam(required = false) YearMonth from,
+                                                  @RequestParam(required = false) YearMonth to) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        return getRevenueByPeriodUseCase.invoke(startOrDefault(from, end), end);
+    }
+
+    @GetMapping("/by-method")
+    @PreAuthorize("hasRole('USER')")
+    public List<PaymentMethodRevenue> getRevenueByPaymentMethod(@RequestParam(required = false) YearMonth from,
+                                                                @RequestParam(required = false) YearMonth to) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        return getRevenueByPaymentMethodUseCase.invoke(startOrDefault(from, end), end);
+    }
+
+    @GetMapping("/by-member")
+    @PreAuthorize("hasRole('USER')")
+    public List<MemberRevenue> getRevenueByMember(@RequestParam(required = false) YearMonth from,
+                                                  @RequestParam(required = false) YearMonth to,
+                                                  @RequestParam(defaultValue = "20") @Min(1) @Max(500) int limit) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        return getRevenueByMemberUseCase.invoke(startOrDefault(from, end), end, limit);
+    }
+
+    private YearMonth startOrDefault(YearMonth from, YearMonth end) {
+        return from != null ? from : end.minusMonths(DEFAULT_RANGE_MONTHS - 1);
+    }
+}
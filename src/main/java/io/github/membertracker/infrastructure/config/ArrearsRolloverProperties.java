@@ -0,0 +1,29 @@
+package io.github.membertracker.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.arrears.rollover")
+public class ArrearsRolloverProperties {
+
+    private boolean catchUp = true;
+    private int maxCatchUpMonths = 12;
+
+    // Getters and Setters
+    public boolean isCatchUp() {
+        return catchUp;
+    }
+
+    public void setCatchUp(boolean catchUp) {
+        this.catchUp = catchUp;
+    }
+
+    public int getMaxCatchUpMonths() {
+        return maxCatchUpMonths;
+    }
+
+    public void setMaxCatchUpMonths(int maxCatchUpMonths) {
+        this.maxCatchUpMonths = maxCatchUpMonths;
+    }
+}
@@ -8,9 +8,14 @@ import org.springframework.stereotype.Component;
 public class AuthProperties {
 
     private Cookies cookies = new Cookies();
+    private Login login = new Login();
     private long accessTtlSeconds = 1800; // 30 minutes
     private long refreshTtlSeconds = 2592000; // 30 days
     private String jwtSecret;
+    private int verifiedTokenCacheSize = 10000;
+    private long principalCacheTtlSeconds = 60;
+    private int principalCacheSize = 10000;
+    private int refreshTokenCacheSize = 10000;
 
     public static class Cookies {
         private boolean enabled = true;
@@ -70,6 +75,55 @@ public class AuthProperties {
         }
     }
 
+    public static class Login {
+        private int maxAttemptsPerEmail = 10;
+        private int maxAttemptsPerIp = 300;
+        private long windowSeconds = 300;
+        private int hashThreads = 0; // 0 = one per available core
+        private int hashQueueCapacity = 64;
+
+        // Getters and Setters
+        public int getMaxAttemptsPerEmail() {
+            return maxAttemptsPerEmail;
+        }
+
+        public void setMaxAttemptsPerEmail(int maxAttemptsPerEmail) {
+            this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        }
+
+        public int getMaxAttemptsPerIp() {
+            return maxAttemptsPerIp;
+        }
+
+        public void setMaxAttemptsPerIp(int maxAttemptsPerIp) {
+            this.maxAttemptsPerIp = maxAttemptsPerIp;
+        }
+
+        public long getWindowSeconds() {
+            return windowSeconds;
+        }
+
+        public void setWindowSeconds(long windowSeconds) {
+            this.windowSeconds = windowSeconds;
+        }
+
+        public int getHashThreads() {
+            return hashThreads;
+        }
+
+        public void setHashThreads(int hashThreads) {
+            this.hashThreads = hashThreads;
+        }
+
+        public int getHashQueueCapacity() {
+            return hashQueueCapacity;
+        }
+
+        public void setHashQueueCapacity(int hashQueueCapacity) {
+            this.hashQueueCapacity = hashQueueCapacity;
+        }
+    }
+
     // Getters and Setters
     public Cookies getCookies() {
         return cookies;
@@ -79,6 +133,14 @@ public class AuthProperties {
         this.cookies = cookies;
     }
 
+    public Login getLogin() {
+        return login;
+    }
+
+    public void setLogin(Login login) {
+        this.login = login;
+    }
+
     public long getAccessTtlSeconds() {
         return accessTtlSeconds;
     }
@@ -102,4 +164,36 @@ public class AuthProperties {
     public void setJwtSecret(String jwtSecret) {
         this.jwtSecret = jwtSecret;
     }
+
+    public int getVerifiedTokenCacheSize() {
+        return verifiedTokenCacheSize;
+    }
+
+    public void setVerifiedTokenCacheSize(int verifiedTokenCacheSize) {
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+    }
+
+    public long getPrincipalCacheTtlSeconds() {
+        return principalCacheTtlSeconds;
+    }
+
+    public void setPrincipalCacheTtlSeconds(long principalCacheTtlSeconds) {
+        this.principalCacheTtlSeconds = principalCacheTtlSeconds;
+    }
+
+    public int getPrincipalCacheSize() {
+        return principalCacheSize;
+    }
+
+    public void setPrincipalCacheSize(int principalCacheSize) {
+        this.principalCacheSize = principalCacheSize;
+    }
+
+    public int getRefreshTokenCacheSize() {
+        return refreshTokenCacheSize;
+    }
+
+    public void setRefreshTokenCacheSize(int refreshTokenCacheSize) {
+        this.refreshTokenCacheSize = refreshTokenCacheSize;
+    }
 }
\ No newline at end of file
@@ -13,6 +13,9 @@ public class MailProperties {
     private Templates templates = new Templates();
     private ChurchInfo church = new ChurchInfo();
     private Retry retry = new Retry();
+    private Outbox outbox = new Outbox();
+    private Pool pool = new Pool();
+    private RateLimit rateLimit = new RateLimit();
 
     public static class ChurchInfo {
         private String name = "Felege Selam Church";
@@ -143,6 +146,7 @@ public class MailProperties {
         private String paymentReminder = "payment-reminder";
         private String welcome = "welcome";
         private String announcement = "announcement";
+        private int compiledCacheSize = 256;
 
         // Getters and Setters
         public String getPaymentReminder() {
@@ -168,6 +172,14 @@ public class MailProperties {
         public void setAnnouncement(String announcement) {
             this.announcement = announcement;
         }
+
+        public int getCompiledCacheSize() {
+            return compiledCacheSize;
+        }
+
+        public void setCompiledCacheSize(int compiledCacheSize) {
+            this.compiledCacheSize = compiledCacheSize;
+        }
     }
 
     public static class Retry {
@@ -176,6 +188,16 @@ public class MailProperties {
         private double multiplier = 2.0;
         private long maxDelayMs = 10000;
 
+        /**
+         * Exponential backoff before the next attempt, capped at maxDelayMs.
+         *
+         * @param failedAttempts the number of attempts made so far (1 after the first failure)
+         */
+        public long backoffDelayMs(int failedAttempts) {
+            double delay = initialDelayMs * Math.pow(multiplier, failedAttempts - 1);
+            return Math.min((long) delay, maxDelayMs);
+        }
+
         // Getters and Setters
         public int getMaxAttempts() {
             return maxAttempts;
@@ -210,6 +232,135 @@ public class MailProperties {
         }
     }
 
+    public static class Outbox {
+        private int workers = 4;
+        private int batchSize = 50;
+        private long pollIntervalMs = 1000;
+        private long claimTimeoutMs = 900000; // 15 minutes
+        private int statusFlushSize = 25;
+        private long statusFlushIntervalMs = 2000;
+        private int enqueueChunkSize = 1000;
+
+        // Getters and Setters
+        public int getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getPollIntervalMs() {
+            return pollIntervalMs;
+        }
+
+        public void setPollIntervalMs(long pollIntervalMs) {
+            this.pollIntervalMs = pollIntervalMs;
+        }
+
+        public long getClaimTimeoutMs() {
+            return claimTimeoutMs;
+        }
+
+        public void setClaimTimeoutMs(long claimTimeoutMs) {
+            this.claimTimeoutMs = claimTimeoutMs;
+        }
+
+        public int getStatusFlushSize() {
+            return statusFlushSize;
+        }
+
+        public void setStatusFlushSize(int statusFlushSize) {
+            this.statusFlushSize = statusFlushSize;
+        }
+
+        public long getStatusFlushIntervalMs() {
+            return statusFlushIntervalMs;
+        }
+
+        public void setStatusFlushIntervalMs(long statusFlushIntervalMs) {
+            this.statusFlushIntervalMs = statusFlushIntervalMs;
+        }
+
+        public int getEnqueueChunkSize() {
+            return enqueueChunkSize;
+        }
+
+        public void setEnqueueChunkSize(int enqueueChunkSize) {
+            this.enqueueChunkSize = enqueueChunkSize;
+        }
+    }
+
+    public static class Pool {
+        private int maxConnections = 4;
+        private int maxMessagesPerConnection = 100;
+        private long maxIdleMs = 60000;
+        private long borrowTimeoutMs = 30000;
+
+        // Getters and Setters
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getMaxMessagesPerConnection() {
+            return maxMessagesPerConnection;
+        }
+
+        public void setMaxMessagesPerConnection(int maxMessagesPerConnection) {
+            this.maxMessagesPerConnection = maxMessagesPerConnection;
+        }
+
+        public long getMaxIdleMs() {
+            return maxIdleMs;
+        }
+
+        public void setMaxIdleMs(long maxIdleMs) {
+            this.maxIdleMs = maxIdleMs;
+        }
+
+        public long getBorrowTimeoutMs() {
+            return borrowTimeoutMs;
+        }
+
+        public void setBorrowTimeoutMs(long borrowTimeoutMs) {
+            this.borrowTimeoutMs = borrowTimeoutMs;
+        }
+    }
+
+    public static class RateLimit {
+        private int perSecond = 10;
+        private int perMinute = 600;
+
+        // Getters and Setters
+        public int getPerSecond() {
+            return perSecond;
+        }
+
+        public void setPerSecond(int perSecond) {
+            this.perSecond = perSecond;
+        }
+
+        public int getPerMinute() {
+            return perMinute;
+        }
+
+        public void setPerMinute(int perMinute) {
+            this.perMinute = perMinute;
+        }
+    }
+
     // Getters and Setters
     public boolean isEnabled() {
         return enabled;
@@ -258,4 +409,28 @@ public class MailProperties {
     public void setRetry(Retry retry) {
         this.retry = retry;
     }
+
+    public Outbox getOutbox() {
+        return outbox;
+    }
+
+    public void setOutbox(Outbox outbox) {
+        this.outbox = outbox;
+    }
+
+    public Pool getPool() {
+        return pool;
+    }
+
+    public void setPool(Pool pool) {
+        this.pool = pool;
+    }
+
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimit rateLimit) {
+        this.rateLimit = rateLimit;
+    }
 }
\ No newline at end of file
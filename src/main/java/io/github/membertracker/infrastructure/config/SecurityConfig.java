@@ -1,7 +1,10 @@
 package io.github.membertracker.infrastructure.config;
 
 import io.github.membertracker.infrastructure.filter.JwtAuthenticationFilter;
+import io.github.membertracker.infrastructure.service.BoundedPasswordEncoder;
+import io.github.membertracker.infrastructure.service.LoginThrottle;
 import io.github.membertracker.usecase.LoadUserByUsernameUseCase;
+import io.github.membertracker.utils.JwtVerifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -33,23 +36,34 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(UserDetailsService userDetailsService, AuthProperties authProperties) {
+    public JwtAuthenticationFilter jwtAuthenticationFilter(UserDetailsService userDetailsService, AuthProperties authProperties,
+                                                           JwtVerifier jwtVerifier) {
         JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
         filter.setUserDetailsService(userDetailsService);
         filter.setAuthProperties(authProperties);
+        filter.setJwtVerifier(jwtVerifier);
         return filter;
     }
 
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(AuthProperties authProperties) {
+        AuthProperties.Login login = authProperties.getLogin();
+        int threads = login.getHashThreads() > 0 ? login.getHashThreads() : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(12), threads, login.getHashQueueCapacity());
+    }
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public LoginThrottle loginThrottle(AuthProperties authProperties) {
+        AuthProperties.Login login = authProperties.getLogin();
+        return new LoginThrottle(login.getMaxAttemptsPerEmail(), login.getMaxAttemptsPerIp(), login.getWindowSeconds());
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider(UserDetailsService userDetailsService) {
+    public DaoAuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+                                                            PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
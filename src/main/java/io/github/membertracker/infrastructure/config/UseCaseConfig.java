@@ -1,40 +1,70 @@
 package io.github.membertracker.infrastructure.config;
 
+import io.github.membertracker.domain.cache.UserPrincipalCache;
 import io.github.membertracker.domain.policy.DefaultMembershipPolicy;
+import io.github.membertracker.domain.policy.MembershipPolicy;
+import io.github.membertracker.domain.repository.ActivityLogRepository;
 import io.github.membertracker.domain.repository.CommunicationRepository;
+import io.github.membertracker.domain.repository.JobStateRepository;
 import io.github.membertracker.domain.repository.MessageDeliveryRepository;
 import io.github.membertracker.domain.repository.MemberRepository;
 import io.github.membertracker.domain.repository.PaymentRepository;
+import io.github.membertracker.domain.repository.RefreshTokenRepository;
 import io.github.membertracker.domain.repository.UserRepository;
+import io.github.membertracker.domain.stats.DashboardStatsTracker;
+import io.github.membertracker.domain.stats.PaymentMonthIndex;
 import io.github.membertracker.infrastructure.service.EmailService;
+import io.github.membertracker.infrastructure.service.LoginThrottle;
 import io.github.membertracker.usecase.AuthenticateUserUseCase;
 import io.github.membertracker.usecase.ChangePasswordUseCase;
 import io.github.membertracker.usecase.CreateCommunicationUseCase;
+import io.github.membertracker.usecase.DeactivateLapsedMembersUseCase;
 import io.github.membertracker.usecase.DeleteMemberUseCase;
+import io.github.membertracker.usecase.DispatchPendingDeliveriesUseCase;
+import io.github.membertracker.usecase.EvaluateMemberStandingsUseCase;
+import io.github.membertracker.usecase.ExportMembersUseCase;
+import io.github.membertracker.usecase.ExportPaymentsUseCase;
 import io.github.membertracker.usecase.GetActiveMembersUseCase;
 import io.github.membertracker.usecase.GetAllCommunicationsUseCase;
 import io.github.membertracker.usecase.GetAllMembersUseCase;
 import io.github.membertracker.usecase.GetAllPaymentsUseCase;
 import io.github.membertracker.usecase.GetCommunicationByIdUseCase;
 import io.github.membertracker.usecase.GetCurrentUserUseCase;
+import io.github.membertracker.usecase.GetDashboardStatsUseCase;
 import io.github.membertracker.usecase.GetDeliveriesByCommunicationUseCase;
 import io.github.membertracker.usecase.GetInactiveMembersUseCase;
 import io.github.membertracker.usecase.GetMemberByIdUseCase;
+import io.github.membertracker.usecase.GetMembersPageUseCase;
 import io.github.membertracker.usecase.GetMembersWithMissedPaymentsUseCase;
 import io.github.membertracker.usecase.GetMembersWithoutRecentPaymentUseCase;
 import io.github.membertracker.usecase.GetPaymentByIdUseCase;
+import io.github.membertracker.usecase.GetPaymentLedgerUseCase;
 import io.github.membertracker.usecase.GetPaymentsByMemberUseCase;
+import io.github.membertracker.usecase.GetRecentActivitiesUseCase;
+import io.github.membertracker.usecase.GetRecentPaymentsUseCase;
+import io.github.membertracker.usecase.GetRevenueByMemberUseCase;
+import io.github.membertracker.usecase.GetRevenueByPaymentMethodUseCase;
+import io.github.membertracker.usecase.GetRevenueByPeriodUseCase;
 import io.github.membertracker.usecase.HasPaymentForMonthUseCase;
+import io.github.membertracker.usecase.ImportMembersUseCase;
+import io.github.membertracker.usecase.IssueRefreshTokenUseCase;
 import io.github.membertracker.usecase.LoadUserByUsernameUseCase;
 import io.github.membertracker.usecase.ProcessMemberPaymentUseCase;
+import io.github.membertracker.usecase.PurgeExpiredRefreshTokensUseCase;
+import io.github.membertracker.usecase.RebuildPaymentMonthIndexUseCase;
+import io.github.membertracker.usecase.ReconcileDashboardStatsUseCase;
 import io.github.membertracker.usecase.RecordPaymentUseCase;
 import io.github.membertracker.usecase.RegisterUserUseCase;
+import io.github.membertracker.usecase.ReleaseStaleDeliveryClaimsUseCase;
+import io.github.membertracker.usecase.RevokeRefreshTokenUseCase;
+import io.github.membertracker.usecase.RotateRefreshTokenUseCase;
 import io.github.membertracker.usecase.SaveMemberUseCase;
 import io.github.membertracker.usecase.SendCommunicationToAllMembersUseCase;
 import io.github.membertracker.usecase.SendCommunicationToMembersUseCase;
 import io.github.membertracker.usecase.SendPaymentRemindersUseCase;
 import io.github.membertracker.usecase.UpdateMissingPaymentCountersUseCase;
 import io.github.membertracker.usecase.UpdateUserProfileUseCase;
+import jakarta.validation.Validator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -43,19 +73,27 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class UseCaseConfig {
 
     // User-related use cases
+    @Bean
+    public UserPrincipalCache userPrincipalCache(AuthProperties authProperties) {
+        return new UserPrincipalCache(authProperties.getPrincipalCacheTtlSeconds(), authProperties.getPrincipalCacheSize());
+    }
+
     @Bean
     public RegisterUserUseCase registerUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
         return new RegisterUserUseCase(userRepository, passwordEncoder);
     }
 
     @Bean
-    public AuthenticateUserUseCase authenticateUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
-        return new AuthenticateUserUseCase(userRepository, passwordEncoder);
+    public AuthenticateUserUseCase authenticateUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                                           UserPrincipalCache userPrincipalCache,
+                                                           LoginThrottle loginThrottle) {
+        return new AuthenticateUserUseCase(userRepository, passwordEncoder, userPrincipalCache, loginThrottle);
     }
 
     @Bean
-    public LoadUserByUsernameUseCase loadUserByUsernameUseCase(UserRepository userRepository) {
-        return new LoadUserByUsernameUseCase(userRepository);
+    public LoadUserByUsernameUseCase loadUserByUsernameUseCase(UserRepository userRepository,
+                                                               UserPrincipalCache userPrincipalCache) {
+        return new LoadUserByUsernameUseCase(userRepository, userPrincipalCache);
     }
 
     @Bean
@@ -64,13 +102,37 @@ public class UseCaseConfig {
     }
 
     @Bean
-    public UpdateUserProfileUseCase updateUserProfileUseCase(UserRepository userRepository) {
-        return new UpdateUserProfileUseCase(userRepository);
+    public UpdateUserProfileUseCase updateUserProfileUseCase(UserRepository userRepository,
+                                                             UserPrincipalCache userPrincipalCache) {
+        return new UpdateUserProfileUseCase(userRepository, userPrincipalCache);
+    }
+
+    @Bean
+    public ChangePasswordUseCase changePasswordUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                                       UserPrincipalCache userPrincipalCache) {
+        return new ChangePasswordUseCase(userRepository, passwordEncoder, userPrincipalCache);
+    }
+
+    @Bean
+    public IssueRefreshTokenUseCase issueRefreshTokenUseCase(RefreshTokenRepository refreshTokenRepository,
+                                                             AuthProperties authProperties) {
+        return new IssueRefreshTokenUseCase(refreshTokenRepository, authProperties.getRefreshTtlSeconds());
+    }
+
+    @Bean
+    public RotateRefreshTokenUseCase rotateRefreshTokenUseCase(RefreshTokenRepository refreshTokenRepository,
+                                                               AuthProperties authProperties) {
+        return new RotateRefreshTokenUseCase(refreshTokenRepository, authProperties.getRefreshTtlSeconds());
+    }
+
+    @Bean
+    public RevokeRefreshTokenUseCase revokeRefreshTokenUseCase(RefreshTokenRepository refreshTokenRepository) {
+        return new RevokeRefreshTokenUseCase(refreshTokenRepository);
     }
 
     @Bean
-    public ChangePasswordUseCase changePasswordUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
-        return new ChangePasswordUseCase(userRepository, passwordEncoder);
+    public PurgeExpiredRefreshTokensUseCase purgeExpiredRefreshTokensUseCase(RefreshTokenRepository refreshTokenRepository) {
+        return new PurgeExpiredRefreshTokensUseCase(refreshTokenRepository);
     }
 
     // Member-related use cases
@@ -95,13 +157,31 @@ public class UseCaseConfig {
     }
 
     @Bean
-    public SaveMemberUseCase saveMemberUseCase(MemberRepository memberRepository) {
-        return new SaveMemberUseCase(memberRepository);
+    public SaveMemberUseCase saveMemberUseCase(MemberRepository memberRepository, DashboardStatsTracker dashboardStatsTracker) {
+        return new SaveMemberUseCase(memberRepository, dashboardStatsTracker);
     }
 
     @Bean
-    public DeleteMemberUseCase deleteMemberUseCase(MemberRepository memberRepository) {
-        return new DeleteMemberUseCase(memberRepository);
+    public ImportMembersUseCase importMembersUseCase(MemberRepository memberRepository, Validator validator,
+                                                     DashboardStatsTracker dashboardStatsTracker) {
+        return new ImportMembersUseCase(memberRepository, validator, dashboardStatsTracker);
+    }
+
+    @Bean
+    public DeleteMemberUseCase deleteMemberUseCase(MemberRepository memberRepository, PaymentRepository paymentRepository,
+                                                   DashboardStatsTracker dashboardStatsTracker,
+                                                   PaymentMonthIndex paymentMonthIndex) {
+        return new DeleteMemberUseCase(memberRepository, paymentRepository, dashboardStatsTracker, paymentMonthIndex);
+    }
+
+    @Bean
+    public ExportMembersUseCase exportMembersUseCase(MemberRepository memberRepository) {
+        return new ExportMembersUseCase(memberRepository);
+    }
+
+    @Bean
+    public GetMembersPageUseCase getMembersPageUseCase(MemberRepository memberRepository) {
+        return new GetMembersPageUseCase(memberRepository);
     }
 
     @Bean
@@ -131,18 +211,103 @@ public class UseCaseConfig {
     }
 
     @Bean
-    public RecordPaymentUseCase recordPaymentUseCase(PaymentRepository paymentRepository, MemberRepository memberRepository) {
-        return new RecordPaymentUseCase(paymentRepository, memberRepository);
+    public ExportPaymentsUseCase exportPaymentsUseCase(PaymentRepository paymentRepository) {
+        return new ExportPaymentsUseCase(paymentRepository);
+    }
+
+    @Bean
+    public GetPaymentLedgerUseCase getPaymentLedgerUseCase(PaymentRepository paymentRepository) {
+        return new GetPaymentLedgerUseCase(paymentRepository);
+    }
+
+    @Bean
+    public PaymentMonthIndex paymentMonthIndex() {
+        return new PaymentMonthIndex();
+    }
+
+    @Bean
+    public RebuildPaymentMonthIndexUseCase rebuildPaymentMonthIndexUseCase(PaymentRepository paymentRepository,
+                                                                           PaymentMonthIndex paymentMonthIndex) {
+        return new RebuildPaymentMonthIndexUseCase(paymentRepository, paymentMonthIndex);
+    }
+
+    @Bean
+    public RecordPaymentUseCase recordPaymentUseCase(PaymentRepository paymentRepository, MemberRepository memberRepository,
+                                                     DashboardStatsTracker dashboardStatsTracker,
+                                                     PaymentMonthIndex paymentMonthIndex) {
+        return new RecordPaymentUseCase(paymentRepository, memberRepository, dashboardStatsTracker, paymentMonthIndex);
+    }
+
+    @Bean
+    public HasPaymentForMonthUseCase hasPaymentForMonthUseCase(PaymentRepository paymentRepository,
+                                                               PaymentMonthIndex paymentMonthIndex) {
+        return new HasPaymentForMonthUseCase(paymentRepository, paymentMonthIndex);
     }
 
     @Bean
-    public HasPaymentForMonthUseCase hasPaymentForMonthUseCase(PaymentRepository paymentRepository) {
-        return new HasPaymentForMonthUseCase(paymentRepository);
+    public MembershipPolicy membershipPolicy(PaymentMonthIndex paymentMonthIndex) {
+        return new DefaultMembershipPolicy(paymentMonthIndex);
     }
 
     @Bean
-    public ProcessMemberPaymentUseCase processMemberPaymentUseCase(MemberRepository memberRepository, PaymentRepository paymentRepository) {
-        return new ProcessMemberPaymentUseCase(memberRepository, paymentRepository, new DefaultMembershipPolicy());
+    public ProcessMemberPaymentUseCase processMemberPaymentUseCase(MemberRepository memberRepository, PaymentRepository paymentRepository,
+                                                                   MembershipPolicy membershipPolicy,
+                                                                   DashboardStatsTracker dashboardStatsTracker,
+                                                                   PaymentMonthIndex paymentMonthIndex) {
+        return new ProcessMemberPaymentUseCase(memberRepository, paymentRepository,
+                membershipPolicy, dashboardStatsTracker, paymentMonthIndex);
+    }
+
+    @Bean
+    public EvaluateMemberStandingsUseCase evaluateMemberStandingsUseCase(MemberRepository memberRepository,
+                                                                         MembershipPolicy membershipPolicy) {
+        return new EvaluateMemberStandingsUseCase(memberRepository, membershipPolicy);
+    }
+
+    @Bean
+    public GetRevenueByPeriodUseCase getRevenueByPeriodUseCase(PaymentRepository paymentRepository) {
+        return new GetRevenueByPeriodUseCase(paymentRepository);
+    }
+
+    @Bean
+    public GetRevenueByPaymentMethodUseCase getRevenueByPaymentMethodUseCase(PaymentRepository paymentRepository) {
+        return new GetRevenueByPaymentMethodUseCase(paymentRepository);
+    }
+
+    @Bean
+    public GetRevenueByMemberUseCase getRevenueByMemberUseCase(PaymentRepository paymentRepository) {
+        return new GetRevenueByMemberUseCase(paymentRepository);
+    }
+
+    // Dashboard-related use cases
+    @Bean
+    public DashboardStatsTracker dashboardStatsTracker() {
+        return new DashboardStatsTracker();
+    }
+
+    @Bean
+    public ReconcileDashboardStatsUseCase reconcileDashboardStatsUseCase(MemberRepository memberRepository,
+                                                                         PaymentRepository paymentRepository,
+                                                                         DashboardStatsTracker dashboardStatsTracker) {
+        return new ReconcileDashboardStatsUseCase(memberRepository, paymentRepository, dashboardStatsTracker);
+    }
+
+    @Bean
+    public GetDashboardStatsUseCase getDashboardStatsUseCase(DashboardStatsTracker dashboardStatsTracker,
+                                                             ReconcileDashboardStatsUseCase reconcileDashboardStatsUseCase) {
+        return new GetDashboardStatsUseCase(dashboardStatsTracker, reconcileDashboardStatsUseCase);
+    }
+
+    @Bean
+    public GetRecentPaymentsUseCase getRecentPaymentsUseCase(PaymentRepository paymentRepository) {
+        return new GetRecentPaymentsUseCase(paymentRepository);
+    }
+
+    @Bean
+    public GetRecentActivitiesUseCase getRecentActivitiesUseCase(PaymentRepository paymentRepository,
+                                                                 CommunicationRepository communicationRepository,
+                                                                 ActivityLogRepository activityLogRepository) {
+        return new GetRecentActivitiesUseCase(paymentRepository, communicationRepository, activityLogRepository);
     }
 
     // Communication-related use cases
@@ -172,21 +337,50 @@ public class UseCaseConfig {
     public SendCommunicationToAllMembersUseCase sendCommunicationToAllMembersUseCase(
             CommunicationRepository communicationRepository, 
             MemberRepository memberRepository,
-            EmailService emailService) {
-        return new SendCommunicationToAllMembersUseCase(communicationRepository, memberRepository, emailService);
+            MessageDeliveryRepository messageDeliveryRepository,
+            MailProperties mailProperties) {
+        return new SendCommunicationToAllMembersUseCase(communicationRepository, memberRepository, messageDeliveryRepository,
+                mailProperties.getOutbox().getEnqueueChunkSize());
     }
 
     @Bean
     public SendCommunicationToMembersUseCase sendCommunicationToMembersUseCase(
             CommunicationRepository communicationRepository,
-            EmailService emailService) {
-        return new SendCommunicationToMembersUseCase(communicationRepository, emailService);
+            MessageDeliveryRepository messageDeliveryRepository) {
+        return new SendCommunicationToMembersUseCase(communicationRepository, messageDeliveryRepository);
+    }
+
+    @Bean
+    public DispatchPendingDeliveriesUseCase dispatchPendingDeliveriesUseCase(
+            MessageDeliveryRepository messageDeliveryRepository,
+            EmailService emailService,
+            MailProperties mailProperties) {
+        return new DispatchPendingDeliveriesUseCase(messageDeliveryRepository, emailService, mailProperties.getRetry(),
+            mailProperties.getOutbox().getStatusFlushSize(), mailProperties.getOutbox().getStatusFlushIntervalMs());
+    }
+
+    @Bean
+    public ReleaseStaleDeliveryClaimsUseCase releaseStaleDeliveryClaimsUseCase(
+            MessageDeliveryRepository messageDeliveryRepository) {
+        return new ReleaseStaleDeliveryClaimsUseCase(messageDeliveryRepository);
     }
 
     // Scheduler-related use cases
     @Bean
-    public UpdateMissingPaymentCountersUseCase updateMissingPaymentCountersUseCase(MemberRepository memberRepository, HasPaymentForMonthUseCase hasPaymentForMonthUseCase) {
-        return new UpdateMissingPaymentCountersUseCase(memberRepository,  hasPaymentForMonthUseCase);
+    public DeactivateLapsedMembersUseCase deactivateLapsedMembersUseCase(MemberRepository memberRepository,
+                                                                         MembershipPolicy membershipPolicy,
+                                                                         DashboardStatsTracker dashboardStatsTracker,
+                                                                         MemberDeactivationProperties memberDeactivationProperties) {
+        return new DeactivateLapsedMembersUseCase(memberRepository, membershipPolicy, dashboardStatsTracker,
+                memberDeactivationProperties.getChunkSize());
+    }
+
+    @Bean
+    public UpdateMissingPaymentCountersUseCase updateMissingPaymentCountersUseCase(MemberRepository memberRepository,
+                                                                                   JobStateRepository jobStateRepository,
+                                                                                   ArrearsRolloverProperties arrearsRolloverProperties) {
+        return new UpdateMissingPaymentCountersUseCase(memberRepository, jobStateRepository,
+                arrearsRolloverProperties.isCatchUp(), arrearsRolloverProperties.getMaxCatchUpMonths());
     }
 
     @Bean
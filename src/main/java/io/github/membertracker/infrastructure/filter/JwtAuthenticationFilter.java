@@ -2,6 +2,8 @@ package io.github.membertracker.infrastructure.filter;
 
 import io.github.membertracker.infrastructure.config.AuthProperties;
 import io.github.membertracker.utils.JwtUtils;
+import io.github.membertracker.utils.JwtVerifier;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -22,6 +24,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private UserDetailsService userDetailsService;
     private AuthProperties authProperties;
+    private JwtVerifier jwtVerifier;
 
     public JwtAuthenticationFilter() {
         // Default constructor for Spring bean creation
@@ -35,18 +38,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         this.authProperties = authProperties;
     }
 
+    public void setJwtVerifier(JwtVerifier jwtVerifier) {
+        this.jwtVerifier = jwtVerifier;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         
         String jwt = getJwtFromRequest(request);
         
-        if (StringUtils.hasText(jwt) && JwtUtils.validateToken(jwt, authProperties.getJwtSecret())) {
-            String email = JwtUtils.extractUsername(jwt, authProperties.getJwtSecret());
+        Claims claims = StringUtils.hasText(jwt) ? jwtVerifier.verify(jwt) : null;
+
+        // Refresh tokens are signed with the same key but only the refresh endpoint accepts them
+        if (JwtUtils.isAccessToken(claims)) {
+            String email = claims.getSubject();
             
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 UserDetails userDetails = userDetailsService.loadUserByUsername(email);
                 
-                if (JwtUtils.validateToken(jwt, userDetails, authProperties.getJwtSecret())) {
+                if (email.equals(userDetails.getUsername())) {
                     UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -1,6 +1,7 @@
 package io.github.membertracker.infrastructure.handler;
 
 import io.github.membertracker.domain.exception.DomainException;
+import io.github.membertracker.domain.exception.UserDomainException;
 import io.github.membertracker.infrastructure.dto.ErrorResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -45,6 +46,16 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex, WebRequest request) {
+        if (ex instanceof UserDomainException userException && userException.isThrottled()) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.TOO_MANY_REQUESTS.value(),
+                    "Too Many Requests",
+                    ex.getUserMessage(),
+                    request.getDescription(false).replace("uri=", "")
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.TOO_MANY_REQUESTS);
+        }
+
         ErrorResponse errorResponse = new ErrorResponse(
                 HttpStatus.BAD_REQUEST.value(),
                 "Business Rule Violation",
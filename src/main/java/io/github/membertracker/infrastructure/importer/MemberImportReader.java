@@ -0,0 +1,136 @@
+package io.github.membertracker.infrastructure.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.membertracker.domain.exception.MemberDomainException;
+import io.github.membertracker.domain.model.Member;
+import io.github.membertracker.domain.model.MemberImportRow;
+import io.github.membertracker.utils.CsvUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads member import rows lazily, one line at a time, from CSV or NDJSON input.
+ * CSV input needs a header row with at least the name and email columns; phone and
+ * joinDate are optional and any other column (such as the id column of an export) is
+ * ignored. Blank lines are skipped. Line numbers are 1-based physical lines.
+ */
+public final class MemberImportReader implements Iterator<MemberImportRow> {
+
+    private interface LineParser {
+        MemberImportRow parse(long lineNumber, String line);
+    }
+
+    private final BufferedReader reader;
+    private final LineParser parser;
+    private long lineNumber;
+    private MemberImportRow next;
+
+    private MemberImportReader(BufferedReader reader, long lineNumber, LineParser parser) {
+        this.reader = reader;
+        this.lineNumber = lineNumber;
+        this.parser = parser;
+    }
+
+    public static MemberImportReader csv(BufferedReader reader) {
+        String header = readLine(reader);
+        if (header == null) {
+            return new MemberImportReader(reader, 0, (lineNumber, line) -> null);
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = CsvUtils.parseCsvLine(stripBom(header));
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        Integer nameColumn = columns.get("name");
+        Integer emailColumn = columns.get("email");
+        Integer phoneColumn = columns.get("phone");
+        Integer joinDateColumn = columns.get("joindate");
+        if (nameColumn == null || emailColumn == null) {
+            throw MemberDomainException.invalidMemberData("header", header);
+        }
+
+        return new MemberImportReader(reader, 1, (lineNumber, line) -> {
+            try {
+                List<String> fields = CsvUtils.parseCsvLine(line);
+                Member member = new Member();
+                member.setName(field(fields, nameColumn));
+                member.setEmail(field(fields, emailColumn));
+                member.setPhone(field(fields, phoneColumn));
+                String joinDate = field(fields, joinDateColumn);
+                member.setJoinDate(joinDate != null ? LocalDate.parse(joinDate) : null);
+                return MemberImportRow.parsed(lineNumber, member);
+            } catch (IllegalArgumentException e) {
+                return MemberImportRow.unparseable(lineNumber, "Invalid CSV: " + e.getMessage());
+            } catch (DateTimeParseException e) {
+                return MemberImportRow.unparseable(lineNumber, "Invalid join date: " + e.getParsedString());
+            }
+        });
+    }
+
+    public static MemberImportReader ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        return new MemberImportReader(reader, 0, (lineNumber, line) -> {
+            try {
+                return MemberImportRow.parsed(lineNumber, objectMapper.readValue(line, Member.class));
+            } catch (JsonProcessingException e) {
+                return MemberImportRow.unparseable(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        });
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            String line = readLine(reader);
+            if (line == null) {
+                return false;
+            }
+            lineNumber++;
+            if (!line.isBlank()) {
+                next = parser.parse(lineNumber, line);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public MemberImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        MemberImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private static String field(List<String> fields, Integer column) {
+        if (column == null || column >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 import java.time.LocalDateTime;
@@ -19,7 +20,8 @@ import java.util.List;
 public class CommunicationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "communication_seq")
+    @SequenceGenerator(name = "communication_seq", sequenceName = "communication_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -32,6 +34,11 @@ public class CommunicationEntity {
 
     private boolean sentToAllMembers;
 
+    @Enumerated(EnumType.STRING)
+    private CommunicationEntity.EnqueueStatus enqueueStatus;
+
+    private long enqueuedThroughMemberId;
+
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "communication")
     private List<MessageDeliveryEntity> deliveries = new ArrayList<>();
 
@@ -39,6 +46,11 @@ public class CommunicationEntity {
         ANNOUNCEMENT, REMINDER, PERSONAL
     }
 
+    // Progress of queueing deliveries for all members
+    public enum EnqueueStatus {
+        ENQUEUING, ENQUEUED
+    }
+
     public CommunicationEntity() {
         this.createdDate = LocalDateTime.now();
     }
@@ -99,6 +111,22 @@ public class CommunicationEntity {
         this.sentToAllMembers = sentToAllMembers;
     }
 
+    public CommunicationEntity.EnqueueStatus getEnqueueStatus() {
+        return enqueueStatus;
+    }
+
+    public void setEnqueueStatus(CommunicationEntity.EnqueueStatus enqueueStatus) {
+        this.enqueueStatus = enqueueStatus;
+    }
+
+    public long getEnqueuedThroughMemberId() {
+        return enqueuedThroughMemberId;
+    }
+
+    public void setEnqueuedThroughMemberId(long enqueuedThroughMemberId) {
+        this.enqueuedThroughMemberId = enqueuedThroughMemberId;
+    }
+
     public List<MessageDeliveryEntity> getDeliveries() {
         return deliveries;
     }
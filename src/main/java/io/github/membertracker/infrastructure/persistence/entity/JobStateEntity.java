@@ -0,0 +1,56 @@
+package io.github.membertracker.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+@Entity
+@Table(name = "job_state")
+public class JobStateEntity {
+
+    @Id
+    @Column(name = "job_name")
+    private String jobName;
+
+    @Column(name = "last_processed_period")
+    private YearMonth lastProcessedPeriod;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public JobStateEntity() {
+    }
+
+    public JobStateEntity(String jobName) {
+        this.jobName = jobName;
+    }
+
+    // Getters and Setters
+    public String getJobName() {
+        return jobName;
+    }
+
+    public void setJobName(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public YearMonth getLastProcessedPeriod() {
+        return lastProcessedPeriod;
+    }
+
+    public void setLastProcessedPeriod(YearMonth lastProcessedPeriod) {
+        this.lastProcessedPeriod = lastProcessedPeriod;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 import java.time.LocalDateTime;
@@ -15,7 +16,8 @@ import java.time.LocalDateTime;
 @Table(name = "message_delivery")
 public class MessageDeliveryEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_delivery_seq")
+    @SequenceGenerator(name = "message_delivery_seq", sequenceName = "message_delivery_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -34,9 +36,17 @@ public class MessageDeliveryEntity {
 
     private String responseNotes;
 
+    // Set when an outbox worker claims the row; used to release claims of crashed workers
+    private LocalDateTime claimedAt;
+
+    // Send attempts made so far; a PENDING row with nextAttemptAt set is waiting to be retried
+    private int attemptCount;
+
+    private LocalDateTime nextAttemptAt;
+
     // Enums
     public enum DeliveryStatus {
-        PENDING, SENT, FAILED, DELIVERED
+        PENDING, SENDING, SENT, FAILED, DELIVERED
     }
 
     public enum DeliveryChannel {
@@ -110,4 +120,28 @@ public class MessageDeliveryEntity {
     public void setResponseNotes(String responseNotes) {
         this.responseNotes = responseNotes;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    public void setAttemptCount(int attemptCount) {
+        this.attemptCount = attemptCount;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
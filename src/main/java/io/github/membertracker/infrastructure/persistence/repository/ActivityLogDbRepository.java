@@ -0,0 +1,44 @@
+package io.github.membertracker.infrastructure.persistence.repository;
+
+import io.github.membertracker.domain.model.RecentActivity;
+import io.github.membertracker.domain.repository.ActivityLogRepository;
+import io.github.membertracker.infrastructure.persistence.entity.ActivityLogEntity;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+@Repository
+public class ActivityLogDbRepository implements ActivityLogRepository {
+
+    private final ActivityLogJpaRepository activityLogJpaRepository;
+
+    public ActivityLogDbRepository(ActivityLogJpaRepository activityLogJpaRepository) {
+        this.activityLogJpaRepository = activityLogJpaRepository;
+    }
+
+    @Override
+    public List<RecentActivity> findMostRecent(int limit) {
+        return activityLogJpaRepository.findAllByOrderByCreatedAtDescIdDesc(PageRequest.of(0, limit)).stream()
+                .map(this::mapToRecentActivity)
+                .collect(Collectors.toList());
+    }
+
+    private RecentActivity mapToRecentActivity(ActivityLogEntity entity) {
+        return new RecentActivity(
+            "activity_" + entity.getId(),
+            entity.getCreatedAt() != null ? entity.getCreatedAt().toLocalDate() : null,
+            feedType(entity),
+            entity.getDescription()
+        );
+    }
+
+    // The feed groups entries by what they concern (member, payment, communication), which the log
+    // records as entity_type; entries not tied to an entity fall back to their activity type.
+    private String feedType(ActivityLogEntity entity) {
+        String type = entity.getEntityType() != null ? entity.getEntityType() : entity.getActivityType();
+        return type.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.membertracker.infrastructure.persistence.repository;
+
+import io.github.membertracker.infrastructure.persistence.entity.ActivityLogEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ActivityLogJpaRepository extends JpaRepository<ActivityLogEntity, Long> {
+
+    List<ActivityLogEntity> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+}
@@ -5,7 +5,9 @@ import io.github.membertracker.domain.model.MessageDelivery;
 import io.github.membertracker.domain.repository.CommunicationRepository;
 import io.github.membertracker.infrastructure.persistence.entity.CommunicationEntity;
 import io.github.membertracker.infrastructure.persistence.entity.MessageDeliveryEntity;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -52,12 +54,32 @@ public class CommunicationDbRepository implements CommunicationRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Communication> findMostRecent(int limit) {
+        return communicationJpaRepository.findAllByOrderByCreatedDateDescIdDesc(PageRequest.of(0, limit)).stream()
+                .map(this::mapToCommunication)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Communication save(Communication communication) {
         CommunicationEntity entity = mapToEntity(communication);
         return mapToCommunication(communicationJpaRepository.save(entity));
     }
 
+    @Override
+    public List<Communication> findByEnqueueStatus(Communication.EnqueueStatus enqueueStatus) {
+        return communicationJpaRepository.findByEnqueueStatus(mapToEntityEnqueueStatus(enqueueStatus)).stream()
+                .map(this::mapToCommunication)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void markEnqueued(Long id) {
+        communicationJpaRepository.updateEnqueueStatus(id, CommunicationEntity.EnqueueStatus.ENQUEUED);
+    }
+
     private Communication mapToCommunication(CommunicationEntity entity) {
         Communication communication = new Communication();
         communication.setId(entity.getId());
@@ -67,6 +89,8 @@ public class CommunicationDbRepository implements CommunicationRepository {
         communication.setSentDate(entity.getSentDate());
         communication.setType(mapToDomainType(entity.getType()));
         communication.setSentToAllMembers(entity.isSentToAllMembers());
+        communication.setEnqueueStatus(mapToDomainEnqueueStatus(entity.getEnqueueStatus()));
+        communication.setEnqueuedThroughMemberId(entity.getEnqueuedThroughMemberId());
 
         // Map deliveries if needed
         // This is a simplified version, in a real application you would need to map the deliveries as well
@@ -83,6 +107,8 @@ public class CommunicationDbRepository implements CommunicationRepository {
         entity.setSentDate(communication.getSentDate());
         entity.setType(mapToEntityType(communication.getType()));
         entity.setSentToAllMembers(communication.isSentToAllMembers());
+        entity.setEnqueueStatus(mapToEntityEnqueueStatus(communication.getEnqueueStatus()));
+        entity.setEnqueuedThroughMemberId(communication.getEnqueuedThroughMemberId());
 
         // Map deliveries if needed
         // This is a simplified version, in a real application you would need to map the deliveries as well
@@ -109,4 +135,14 @@ public class CommunicationDbRepository implements CommunicationRepository {
             default: throw new IllegalArgumentException("Unknown communication type: " + domainType);
         }
     }
+
+    private Communication.EnqueueStatus mapToDomainEnqueueStatus(CommunicationEntity.EnqueueStatus entityStatus) {
+        if (entityStatus == null) return null;
+        return Communication.EnqueueStatus.valueOf(entityStatus.name());
+    }
+
+    private CommunicationEntity.EnqueueStatus mapToEntityEnqueueStatus(Communication.EnqueueStatus domainStatus) {
+        if (domainStatus == null) return null;
+        return CommunicationEntity.EnqueueStatus.valueOf(domainStatus.name());
+    }
 }
@@ -1,7 +1,10 @@
 package io.github.membertracker.infrastructure.persistence.repository;
 
 import io.github.membertracker.infrastructure.persistence.entity.CommunicationEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,4 +13,18 @@ public interface CommunicationJpaRepository extends JpaRepository<CommunicationE
     List<CommunicationEntity> findByType(CommunicationEntity.CommunicationType type);
 
     List<CommunicationEntity> findBySentDateBetween(LocalDateTime start, LocalDateTime end);
+
+    List<CommunicationEntity> findAllByOrderByCreatedDateDescIdDesc(Pageable pageable);
+
+    List<CommunicationEntity> findByEnqueueStatus(CommunicationEntity.EnqueueStatus enqueueStatus);
+
+    @Modifying
+    @Query("UPDATE CommunicationEntity c SET c.enqueuedThroughMemberId = :throughMemberId " +
+           "WHERE c.id = :id AND c.enqueueStatus = :enqueuing AND c.enqueuedThroughMemberId = :afterMemberId")
+    int advanceEnqueueCursor(Long id, CommunicationEntity.EnqueueStatus enqueuing, long afterMemberId,
+                             long throughMemberId);
+
+    @Modifying
+    @Query("UPDATE CommunicationEntity c SET c.enqueueStatus = :enqueueStatus WHERE c.id = :id")
+    int updateEnqueueStatus(Long id, CommunicationEntity.EnqueueStatus enqueueStatus);
 }
@@ -0,0 +1,34 @@
+package io.github.membertracker.infrastructure.persistence.repository;
+
+import io.github.membertracker.domain.repository.JobStateRepository;
+import io.github.membertracker.infrastructure.persistence.entity.JobStateEntity;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Optional;
+
+@Repository
+public class JobStateDbRepository implements JobStateRepository {
+
+    private final JobStateJpaRepository jobStateJpaRepository;
+
+    public JobStateDbRepository(JobStateJpaRepository jobStateJpaRepository) {
+        this.jobStateJpaRepository = jobStateJpaRepository;
+    }
+
+    @Override
+    public Optional<YearMonth> lockLastProcessedPeriod(String jobName) {
+        return jobStateJpaRepository.findByJobNameForUpdate(jobName)
+                .map(JobStateEntity::getLastProcessedPeriod);
+    }
+
+    @Override
+    public void saveLastProcessedPeriod(String jobName, YearMonth period) {
+        JobStateEntity entity = jobStateJpaRepository.findById(jobName)
+                .orElseGet(() -> new JobStateEntity(jobName));
+        entity.setLastProcessedPeriod(period);
+        entity.setUpdatedAt(LocalDateTime.now());
+        jobStateJpaRepository.save(entity);
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.membertracker.infrastructure.persistence.repository;
+
+import io.github.membertracker.infrastructure.persistence.entity.JobStateEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface JobStateJpaRepository extends JpaRepository<JobStateEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM JobStateEntity j WHERE j.jobName = :jobName")
+    Optional<JobStateEntity> findByJobNameForUpdate(String jobName);
+}
@@ -1,22 +1,46 @@
 package io.github.membertracker.infrastructure.persistence.repository;
 
+import io.github.membertracker.domain.enumeration.MemberSortKey;
+import io.github.membertracker.domain.exception.MemberDomainException;
+import io.github.membertracker.domain.model.KeysetPage;
 import io.github.membertracker.domain.model.Member;
 import io.github.membertracker.domain.repository.MemberRepository;
 import io.github.membertracker.infrastructure.persistence.entity.MemberEntity;
+import io.github.membertracker.utils.CursorUtils;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class MemberDbRepository implements MemberRepository {
 
+    // Imports arrive in batches of 1000; matches the member id allocation size so each chunk
+    // needs one id block and goes out as one JDBC batch
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
     private final MemberJpaRepository memberJpaRepository;
+    private final EntityManager entityManager;
 
-    public MemberDbRepository(MemberJpaRepository memberJpaRepository) {
+    public MemberDbRepository(MemberJpaRepository memberJpaRepository, EntityManager entityManager) {
         this.memberJpaRepository = memberJpaRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -53,6 +77,173 @@ public class MemberDbRepository implements MemberRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public KeysetPage<Member> findPage(Boolean active, MemberSortKey sortKey, String cursor, int size) {
+        // Fetch one extra row to learn whether another page follows
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<MemberEntity> rows = cursor == null
+                ? findFirstPage(active, sortKey, limit)
+                : findPageAfter(active, sortKey, cursor, limit);
+
+        boolean hasMore = rows.size() > size;
+        List<MemberEntity> pageRows = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? encodeCursor(sortKey, pageRows.get(size - 1)) : null;
+
+        return new KeysetPage<>(
+                pageRows.stream().map(this::mapToMember).collect(Collectors.toList()),
+                nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Member> action) {
+        try (Stream<MemberEntity> rows = memberJpaRepository.streamAllOrderById()) {
+            rows.forEach(entity -> {
+                Member member = mapToMember(entity);
+                // Keep the persistence context from growing with every streamed row
+                entityManager.detach(entity);
+                action.accept(member);
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachForEvaluation(Consumer<Member> action) {
+        // Projection rows are not managed entities, so nothing needs detaching
+        try (Stream<MemberJpaRepository.EvaluationRow> rows = memberJpaRepository.streamForEvaluationOrderById()) {
+            rows.map(this::mapEvaluationRow).forEach(action);
+        }
+    }
+
+    @Override
+    public List<Long> findActiveIdsAfter(long afterId, int limit) {
+        return memberJpaRepository.findActiveIdsAfter(afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<Member> findDeactivationCandidates(int minMonthsMissed, long afterId, int limit) {
+        return memberJpaRepository.findDeactivationCandidates(minMonthsMissed, afterId, PageRequest.of(0, limit)).stream()
+                .map(this::mapEvaluationRow)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public int deactivateAll(Collection<Long> ids, int minMonthsMissed) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // Log first: the update takes the members out of the predicate both statements share
+        memberJpaRepository.logDeactivations(ids, minMonthsMissed);
+        return memberJpaRepository.deactivateAll(ids, minMonthsMissed);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(memberJpaRepository.findEmailsIn(emails));
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<Member> members) {
+        // Pooled ids let Hibernate batch the INSERTs; with rewriteBatchedStatements the
+        // driver sends each batch as one multi-row INSERT
+        Session session = entityManager.unwrap(Session.class);
+        Integer batchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(INSERT_CHUNK_SIZE);
+        // Clearing a caller's persistence context would detach entities it still uses
+        boolean ownsTransaction = TransactionAspectSupport.currentTransactionStatus().isNewTransaction();
+        try {
+            List<MemberEntity> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+            int offset = 0;
+            for (Member member : members) {
+                MemberEntity entity = mapToEntity(member);
+                entityManager.persist(entity);
+                chunk.add(entity);
+                if (chunk.size() == INSERT_CHUNK_SIZE) {
+                    offset = flushChunk(members, offset, chunk, ownsTransaction);
+                }
+            }
+            flushChunk(members, offset, chunk, ownsTransaction);
+        } finally {
+            session.setJdbcBatchSize(batchSize);
+        }
+    }
+
+    private int flushChunk(List<Member> members, int offset, List<MemberEntity> chunk, boolean ownsTransaction) {
+        entityManager.flush();
+        if (ownsTransaction) {
+            entityManager.clear();
+        } else {
+            chunk.forEach(entityManager::detach);
+        }
+        for (MemberEntity entity : chunk) {
+            members.get(offset++).setId(entity.getId());
+        }
+        chunk.clear();
+        return offset;
+    }
+
+    @Override
+    @Transactional
+    public int incrementMonthsMissedWithoutPaymentFor(YearMonth period) {
+        // Anti-join (range over later periods) served by idx_payment_member_period
+        return memberJpaRepository.incrementMonthsMissedWithoutPaymentFor(period, period.atEndOfMonth());
+    }
+
+    private List<MemberEntity> findFirstPage(Boolean active, MemberSortKey sortKey, Pageable limit) {
+        return switch (sortKey) {
+            case NAME -> memberJpaRepository.findPageOrderByName(active, limit);
+            case JOIN_DATE -> memberJpaRepository.findPageOrderByJoinDate(active, limit);
+            case MONTHS_MISSED -> memberJpaRepository.findPageOrderByMonthsMissed(active, limit);
+        };
+    }
+
+    private List<MemberEntity> findPageAfter(Boolean active, MemberSortKey sortKey, String cursor, Pageable limit) {
+        try {
+            String[] key = CursorUtils.decode(cursor, 3);
+            if (!sortKey.getCode().equals(key[0])) {
+                throw MemberDomainException.invalidPageCursor(cursor);
+            }
+            Long id = Long.valueOf(key[2]);
+            return switch (sortKey) {
+                case NAME -> memberJpaRepository.findPageOrderByNameAfter(active, key[1], id, limit);
+                case JOIN_DATE -> memberJpaRepository.findPageOrderByJoinDateAfter(active, LocalDate.parse(key[1]), id, limit);
+                case MONTHS_MISSED -> memberJpaRepository.findPageOrderByMonthsMissedAfter(active, Integer.parseInt(key[1]), id, limit);
+            };
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw MemberDomainException.invalidPageCursor(cursor);
+        }
+    }
+
+    private String encodeCursor(MemberSortKey sortKey, MemberEntity last) {
+        String value = switch (sortKey) {
+            case NAME -> last.getName();
+            case JOIN_DATE -> last.getJoinDate().toString();
+            case MONTHS_MISSED -> String.valueOf(last.getConsecutiveMonthsMissed());
+        };
+        return CursorUtils.encode(sortKey.getCode(), value, String.valueOf(last.getId()));
+    }
+
+    @Override
+    public long count() {
+        return memberJpaRepository.count();
+    }
+
+    @Override
+    public long countByActive(boolean active) {
+        return memberJpaRepository.countByActive(active);
+    }
+
+    @Override
+    public long countByConsecutiveMonthsMissedGreaterThanEqual(int months) {
+        return memberJpaRepository.countByConsecutiveMonthsMissedGreaterThanEqual(months);
+    }
+
     @Override
     public Member save(Member member) {
         MemberEntity entity = mapToEntity(member);
@@ -64,6 +255,17 @@ public class MemberDbRepository implements MemberRepository {
         memberJpaRepository.deleteById(id);
     }
 
+    private Member mapEvaluationRow(MemberJpaRepository.EvaluationRow row) {
+        Member member = new Member();
+        member.setId(row.getId());
+        member.setName(row.getName());
+        member.setJoinDate(row.getJoinDate());
+        member.setLastPaymentDate(row.getLastPaymentDate());
+        member.setConsecutiveMonthsMissed(row.getConsecutiveMonthsMissed());
+        member.setActive(row.isActive());
+        return member;
+    }
+
     private Member mapToMember(MemberEntity entity) {
         Member member = new Member();
         member.setId(entity.getId());
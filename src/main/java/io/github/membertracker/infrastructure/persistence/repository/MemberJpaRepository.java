@@ -1,17 +1,125 @@
 package io.github.membertracker.infrastructure.persistence.repository;
 
 import io.github.membertracker.infrastructure.persistence.entity.MemberEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MemberJpaRepository extends JpaRepository<MemberEntity, Long> {
+    /**
+     * Rows fetched per round trip when streaming a whole table (needs useCursorFetch on the MySQL URL).
+     */
+    String STREAM_FETCH_SIZE = "1000";
+
     List<MemberEntity> findByActive(boolean active);
 
     @Query("SELECT m FROM MemberEntity m WHERE m.lastPaymentDate < :date")
     List<MemberEntity> findMembersWithLastPaymentBefore(LocalDate date);
 
     List<MemberEntity> findByConsecutiveMonthsMissedGreaterThanEqual(int months);
+
+    @Query("SELECT m.email FROM MemberEntity m WHERE m.email IN :emails")
+    List<String> findEmailsIn(Collection<String> emails);
+
+    @Modifying
+    @Query("UPDATE MemberEntity m SET m.consecutiveMonthsMissed = m.consecutiveMonthsMissed + 1 " +
+           "WHERE m.joinDate <= :periodEnd " +
+           "AND NOT EXISTS (SELECT 1 FROM PaymentEntity p WHERE p.member.id = m.id AND p.period >= :period)")
+    int incrementMonthsMissedWithoutPaymentFor(YearMonth period, LocalDate periodEnd);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM MemberEntity m ORDER BY m.id")
+    Stream<MemberEntity> streamAllOrderById();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT m.id AS id, m.name AS name, m.joinDate AS joinDate, m.lastPaymentDate AS lastPaymentDate, " +
+           "m.consecutiveMonthsMissed AS consecutiveMonthsMissed, m.active AS active " +
+           "FROM MemberEntity m ORDER BY m.id")
+    Stream<EvaluationRow> streamForEvaluationOrderById();
+
+    // Backed by idx_member_active_id, which covers the query
+    @Query("SELECT m.id FROM MemberEntity m WHERE m.active = true AND m.id > :afterId ORDER BY m.id")
+    List<Long> findActiveIdsAfter(long afterId, Pageable pageable);
+
+    // Backed by idx_member_active_months_missed_id
+    @Query("SELECT m.id AS id, m.name AS name, m.joinDate AS joinDate, m.lastPaymentDate AS lastPaymentDate, " +
+           "m.consecutiveMonthsMissed AS consecutiveMonthsMissed, m.active AS active " +
+           "FROM MemberEntity m WHERE m.active = true AND m.consecutiveMonthsMissed >= :minMonthsMissed " +
+           "AND m.id > :afterId ORDER BY m.id")
+    List<EvaluationRow> findDeactivationCandidates(int minMonthsMissed, long afterId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO activity_log (activity_type, description, entity_type, entity_id, created_at) " +
+                   "SELECT 'MEMBER_DEACTIVATED', " +
+                   "CONCAT('Member deactivated: ', name, ' (', consecutive_months_missed, ' months missed)'), " +
+                   "'MEMBER', id, CURRENT_TIMESTAMP " +
+                   "FROM member WHERE id IN (:ids) AND active = TRUE AND consecutive_months_missed >= :minMonthsMissed",
+           nativeQuery = true)
+    int logDeactivations(Collection<Long> ids, int minMonthsMissed);
+
+    @Modifying
+    @Query("UPDATE MemberEntity m SET m.active = false " +
+           "WHERE m.id IN :ids AND m.active = true AND m.consecutiveMonthsMissed >= :minMonthsMissed")
+    int deactivateAll(Collection<Long> ids, int minMonthsMissed);
+
+    // Keyset pagination: each ordering is backed by a (column, id) and an (active, column, id) index
+
+    @Query("SELECT m FROM MemberEntity m WHERE (:active IS NULL OR m.active = :active) " +
+           "ORDER BY m.name ASC, m.id ASC")
+    List<MemberEntity> findPageOrderByName(Boolean active, Pageable pageable);
+
+    @Query("SELECT m FROM MemberEntity m WHERE (:active IS NULL OR m.active = :active) " +
+           "AND (m.name > :name OR (m.name = :name AND m.id > :id)) " +
+           "ORDER BY m.name ASC, m.id ASC")
+    List<MemberEntity> findPageOrderByNameAfter(Boolean active, String name, Long id, Pageable pageable);
+
+    @Query("SELECT m FROM MemberEntity m WHERE (:active IS NULL OR m.active = :active) " +
+           "ORDER BY m.joinDate DESC, m.id DESC")
+    List<MemberEntity> findPageOrderByJoinDate(Boolean active, Pageable pageable);
+
+    @Query("SELECT m FROM MemberEntity m WHERE (:active IS NULL OR m.active = :active) " +
+           "AND (m.joinDate < :joinDate OR (m.joinDate = :joinDate AND m.id < :id)) " +
+           "ORDER BY m.joinDate DESC, m.id DESC")
+    List<MemberEntity> findPageOrderByJoinDateAfter(Boolean active, LocalDate joinDate, Long id, Pageable pageable);
+
+    @Query("SELECT m FROM MemberEntity m WHERE (:active IS NULL OR m.active = :active) " +
+           "ORDER BY m.consecutiveMonthsMissed DESC, m.id DESC")
+    List<MemberEntity> findPageOrderByMonthsMissed(Boolean active, Pageable pageable);
+
+    @Query("SELECT m FROM MemberEntity m WHERE (:active IS NULL OR m.active = :active) " +
+           "AND (m.consecutiveMonthsMissed < :monthsMissed " +
+           "OR (m.consecutiveMonthsMissed = :monthsMissed AND m.id < :id)) " +
+           "ORDER BY m.consecutiveMonthsMissed DESC, m.id DESC")
+    List<MemberEntity> findPageOrderByMonthsMissedAfter(Boolean active, int monthsMissed, Long id, Pageable pageable);
+
+    long countByActive(boolean active);
+
+    long countByConsecutiveMonthsMissedGreaterThanEqual(int months);
+
+    interface EvaluationRow {
+        Long getId();
+
+        String getName();
+
+        LocalDate getJoinDate();
+
+        LocalDate getLastPaymentDate();
+
+        int getConsecutiveMonthsMissed();
+
+        boolean isActive();
+    }
 }
@@ -1,6 +1,7 @@
 package io.github.membertracker.infrastructure.persistence.repository;
 
 import io.github.membertracker.domain.model.Communication;
+import io.github.membertracker.domain.model.DeliveryStatusUpdate;
 import io.github.membertracker.domain.model.Member;
 import io.github.membertracker.domain.model.MessageDelivery;
 import io.github.membertracker.domain.repository.MessageDeliveryRepository;
@@ -8,25 +9,46 @@ import io.github.membertracker.infrastructure.persistence.entity.CommunicationEn
 import io.github.membertracker.infrastructure.persistence.entity.MemberEntity;
 import io.github.membertracker.infrastructure.persistence.entity.MessageDeliveryEntity;
 import io.github.membertracker.infrastructure.persistence.repository.MemberJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Repository
 public class MessageDeliveryDbRepository implements MessageDeliveryRepository {
 
+    // Matches hibernate.jdbc.batch_size; the persistence context is cleared after each chunk
+    // when saveAll runs in its own transaction, otherwise only the chunk's entities are detached
+    private static final int INSERT_CHUNK_SIZE = 50;
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE message_delivery SET status = ?, delivery_time = ?, response_notes = ?, attempt_count = ?, " +
+            "next_attempt_at = ?, claimed_at = NULL WHERE id = ? AND status = 'SENDING' AND claimed_at = ?";
+
     private final MessageDeliveryJpaRepository messageDeliveryJpaRepository;
     private final MemberJpaRepository memberJpaRepository;
     private final CommunicationJpaRepository communicationJpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     public MessageDeliveryDbRepository(MessageDeliveryJpaRepository messageDeliveryJpaRepository,
                                        MemberJpaRepository memberJpaRepository,
-                                       CommunicationJpaRepository communicationJpaRepository) {
+                                       CommunicationJpaRepository communicationJpaRepository,
+                                       EntityManager entityManager,
+                                       JdbcTemplate jdbcTemplate) {
         this.messageDeliveryJpaRepository = messageDeliveryJpaRepository;
         this.memberJpaRepository = memberJpaRepository;
         this.communicationJpaRepository = communicationJpaRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -42,16 +64,117 @@ public class MessageDeliveryDbRepository implements MessageDeliveryRepository {
         return mapToDomain(messageDeliveryJpaRepository.save(entity));
     }
 
+    /**
+     * Inserts new deliveries in JDBC batches. Recipients and the communication are attached
+     * as reference proxies, so no row is read back; the given deliveries are returned with
+     * their generated ids set.
+     */
     @Override
+    @Transactional
     public List<MessageDelivery> saveAll(List<MessageDelivery> deliveries) {
-        List<MessageDeliveryEntity> entities = deliveries.stream()
-                .map(this::mapToEntity)
-                .collect(Collectors.toList());
-        return messageDeliveryJpaRepository.saveAll(entities).stream()
-                .map(this::mapToDomain)
+        boolean ownsTransaction = TransactionAspectSupport.currentTransactionStatus().isNewTransaction();
+        List<MessageDeliveryEntity> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+        int offset = 0;
+        for (MessageDelivery delivery : deliveries) {
+            MessageDeliveryEntity entity = mapToEntity(delivery);
+            entityManager.persist(entity);
+            chunk.add(entity);
+            if (chunk.size() == INSERT_CHUNK_SIZE) {
+                offset = flushChunk(deliveries, offset, chunk, ownsTransaction);
+            }
+        }
+        flushChunk(deliveries, offset, chunk, ownsTransaction);
+        return deliveries;
+    }
+
+    @Override
+    @Transactional
+    public boolean saveAllAndAdvanceEnqueueCursor(Long communicationId, long afterMemberId, long throughMemberId,
+                                                  List<MessageDelivery> deliveries) {
+        // The cursor update locks the communication row, so concurrent callers queue one chunk at a time
+        int advanced = communicationJpaRepository.advanceEnqueueCursor(communicationId,
+                CommunicationEntity.EnqueueStatus.ENQUEUING, afterMemberId, throughMemberId);
+        if (advanced == 0) {
+            return false;
+        }
+        saveAll(deliveries);
+        return true;
+    }
+
+    private int flushChunk(List<MessageDelivery> deliveries, int offset, List<MessageDeliveryEntity> chunk,
+                           boolean ownsTransaction) {
+        entityManager.flush();
+        if (ownsTransaction) {
+            entityManager.clear();
+        } else {
+            chunk.forEach(entityManager::detach);
+        }
+        for (MessageDeliveryEntity entity : chunk) {
+            deliveries.get(offset++).setId(entity.getId());
+        }
+        chunk.clear();
+        return offset;
+    }
+
+    @Override
+    @Transactional
+    public List<MessageDelivery> claimPending(int limit) {
+        // The row locks are held until commit, by which time the rows are no longer PENDING
+        List<Long> ids = messageDeliveryJpaRepository.lockPendingIds(LocalDateTime.now(), limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // Whole seconds, as claimed_at stores them; the claim time is matched again when the result is written
+        messageDeliveryJpaRepository.markClaimed(ids, MessageDeliveryEntity.DeliveryStatus.SENDING,
+                LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        return messageDeliveryJpaRepository.findWithRecipientAndCommunicationByIdIn(ids).stream()
+                .map(this::mapClaimedToDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional
+    public int updateStatuses(List<DeliveryStatusUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        // One JDBC batch (one round trip with rewriteBatchedStatements) instead of an UPDATE per delivery.
+        // Each row is only updated under the claim its result was sent with
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setString(1, update.getStatus().name());
+            ps.setTimestamp(2, toTimestamp(update.getDeliveryTime()));
+            ps.setString(3, update.getNotes());
+            ps.setInt(4, update.getAttemptCount());
+            ps.setTimestamp(5, toTimestamp(update.getNextAttemptAt()));
+            ps.setLong(6, update.getDeliveryId());
+            ps.setTimestamp(7, toTimestamp(update.getClaimedAt()));
+        });
+        int applied = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    applied++;
+                }
+            }
+        }
+        return applied;
+    }
+
+    @Override
+    @Transactional
+    public int releaseClaimsOlderThan(LocalDateTime cutoff) {
+        return messageDeliveryJpaRepository.releaseClaimsOlderThan(cutoff,
+                MessageDeliveryEntity.DeliveryStatus.SENDING, MessageDeliveryEntity.DeliveryStatus.PENDING);
+    }
+
+    private MessageDelivery mapClaimedToDomain(MessageDeliveryEntity entity) {
+        MessageDelivery delivery = mapToDomain(entity);
+        // The sender needs the content, not just the communication id
+        delivery.getCommunication().setTitle(entity.getCommunication().getTitle());
+        delivery.getCommunication().setMessageContent(entity.getCommunication().getMessageContent());
+        return delivery;
+    }
+
     private MessageDelivery mapToDomain(MessageDeliveryEntity entity) {
         MessageDelivery delivery = new MessageDelivery();
         delivery.setId(entity.getId());
@@ -59,6 +182,8 @@ public class MessageDeliveryDbRepository implements MessageDeliveryRepository {
         delivery.setChannel(mapToDomainChannel(entity.getChannel()));
         delivery.setDeliveryTime(entity.getDeliveryTime());
         delivery.setResponseNotes(entity.getResponseNotes());
+        delivery.setAttemptCount(entity.getAttemptCount());
+        delivery.setClaimedAt(entity.getClaimedAt());
 
         // Map recipient
         if (entity.getRecipient() != null) {
@@ -90,22 +215,23 @@ public class MessageDeliveryDbRepository implements MessageDeliveryRepository {
         entity.setChannel(mapToEntityChannel(delivery.getChannel()));
         entity.setDeliveryTime(delivery.getDeliveryTime());
         entity.setResponseNotes(delivery.getResponseNotes());
+        entity.setAttemptCount(delivery.getAttemptCount());
 
-        // Map recipient
+        // Map recipient and communication as references; the foreign keys are all the insert needs
         if (delivery.getRecipient() != null && delivery.getRecipient().getId() != null) {
-            memberJpaRepository.findById(delivery.getRecipient().getId())
-                    .ifPresent(entity::setRecipient);
+            entity.setRecipient(memberJpaRepository.getReferenceById(delivery.getRecipient().getId()));
         }
-
-        // Map communication
         if (delivery.getCommunication() != null && delivery.getCommunication().getId() != null) {
-            communicationJpaRepository.findById(delivery.getCommunication().getId())
-                    .ifPresent(entity::setCommunication);
+            entity.setCommunication(communicationJpaRepository.getReferenceById(delivery.getCommunication().getId()));
         }
 
         return entity;
     }
 
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
     private MessageDelivery.DeliveryStatus mapToDomainStatus(MessageDeliveryEntity.DeliveryStatus entityStatus) {
         if (entityStatus == null) return null;
         return MessageDelivery.DeliveryStatus.valueOf(entityStatus.name());
@@ -2,11 +2,34 @@ package io.github.membertracker.infrastructure.persistence.repository;
 
 import io.github.membertracker.infrastructure.persistence.entity.MessageDeliveryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MessageDeliveryJpaRepository extends JpaRepository<MessageDeliveryEntity, Long> {
     List<MessageDeliveryEntity> findByCommunicationId(Long communicationId);
+
+    @Query(value = "SELECT id FROM message_delivery WHERE status = 'PENDING' " +
+                   "AND (next_attempt_at IS NULL OR next_attempt_at <= :now) ORDER BY id LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockPendingIds(LocalDateTime now, int limit);
+
+    @Modifying
+    @Query("UPDATE MessageDeliveryEntity d SET d.status = :status, d.claimedAt = :claimedAt WHERE d.id IN :ids")
+    int markClaimed(Collection<Long> ids, MessageDeliveryEntity.DeliveryStatus status, LocalDateTime claimedAt);
+
+    @Query("SELECT d FROM MessageDeliveryEntity d JOIN FETCH d.recipient JOIN FETCH d.communication " +
+           "WHERE d.id IN :ids ORDER BY d.id")
+    List<MessageDeliveryEntity> findWithRecipientAndCommunicationByIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE MessageDeliveryEntity d SET d.status = :pending, d.claimedAt = NULL " +
+           "WHERE d.status = :sending AND d.claimedAt < :cutoff")
+    int releaseClaimsOlderThan(LocalDateTime cutoff, MessageDeliveryEntity.DeliveryStatus sending,
+                               MessageDeliveryEntity.DeliveryStatus pending);
 }
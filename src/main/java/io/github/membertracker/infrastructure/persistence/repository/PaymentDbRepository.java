@@ -1,16 +1,32 @@
 package io.github.membertracker.infrastructure.persistence.repository;
 
+import io.github.membertracker.domain.enumeration.PaymentMethod;
+import io.github.membertracker.domain.exception.PaymentDomainException;
+import io.github.membertracker.domain.model.KeysetPage;
 import io.github.membertracker.domain.model.Member;
+import io.github.membertracker.domain.model.MemberRevenue;
 import io.github.membertracker.domain.model.Payment;
+import io.github.membertracker.domain.model.PaymentLedgerEntry;
+import io.github.membertracker.domain.model.PaymentLedgerFilter;
+import io.github.membertracker.domain.model.PaymentMethodRevenue;
+import io.github.membertracker.domain.model.PeriodRevenue;
 import io.github.membertracker.domain.repository.PaymentRepository;
 import io.github.membertracker.infrastructure.persistence.entity.MemberEntity;
 import io.github.membertracker.infrastructure.persistence.entity.PaymentEntity;
+import io.github.membertracker.utils.CursorUtils;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class PaymentDbRepository implements PaymentRepository {
@@ -59,12 +75,130 @@ public class PaymentDbRepository implements PaymentRepository {
                 .map(this::mapToPayment);
     }
 
+    @Override
+    public List<Payment> findMostRecent(int limit) {
+        return paymentJpaRepository.findAllByOrderByPaymentDateDescIdDesc(PageRequest.of(0, limit)).stream()
+                .map(this::mapToPayment)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public KeysetPage<PaymentLedgerEntry> findLedgerPage(PaymentLedgerFilter filter, String cursor, int size) {
+        LocalDate afterDate = null;
+        Long afterId = null;
+        if (cursor != null) {
+            try {
+                String[] key = CursorUtils.decode(cursor, 2);
+                afterDate = LocalDate.parse(key[0]);
+                afterId = Long.valueOf(key[1]);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw PaymentDomainException.invalidPageCursor(cursor);
+            }
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        List<PaymentJpaRepository.LedgerRow> rows = paymentJpaRepository.findLedgerPage(
+                filter.getMemberId(),
+                filter.getFromPeriod(),
+                filter.getToPeriod(),
+                filter.getPaymentMethod() != null ? filter.getPaymentMethod().name() : null,
+                filter.getFromDate(),
+                filter.getToDate(),
+                afterDate,
+                afterId,
+                PageRequest.of(0, size + 1));
+
+        boolean hasMore = rows.size() > size;
+        List<PaymentJpaRepository.LedgerRow> pageRows = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            PaymentJpaRepository.LedgerRow last = pageRows.get(size - 1);
+            nextCursor = CursorUtils.encode(last.getPaymentDate().toString(), String.valueOf(last.getId()));
+        }
+
+        return new KeysetPage<>(
+                pageRows.stream().map(this::mapToLedgerEntry).collect(Collectors.toList()),
+                nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachLedgerEntry(Consumer<PaymentLedgerEntry> action) {
+        // Projection rows are not managed entities, so the persistence context stays empty
+        try (Stream<PaymentJpaRepository.LedgerRow> rows = paymentJpaRepository.streamLedgerOrderById()) {
+            rows.map(this::mapToLedgerEntry).forEach(action);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachPaidPeriod(BiConsumer<Long, YearMonth> action) {
+        try (Stream<PaymentJpaRepository.PaidPeriodRow> rows = paymentJpaRepository.streamPaidPeriods()) {
+            rows.forEach(row -> action.accept(row.getMemberId(), row.getPeriod()));
+        }
+    }
+
     @Override
     public boolean existsByMemberAndPeriod(Member member, YearMonth period) {
         MemberEntity memberEntity = mapToMemberEntity(member);
         return paymentJpaRepository.existsByMemberAndPeriod(memberEntity, period);
     }
 
+    @Override
+    public List<PeriodRevenue> findRevenueByPeriod() {
+        return paymentJpaRepository.sumAmountGroupedByPeriod().stream()
+                .map(this::mapToPeriodRevenue)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<PeriodRevenue> findRevenueByPeriod(YearMonth from, YearMonth to) {
+        return paymentJpaRepository.sumAmountGroupedByPeriod(from, to).stream()
+                .map(this::mapToPeriodRevenue)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<PaymentMethodRevenue> findRevenueByPaymentMethod(YearMonth from, YearMonth to) {
+        return paymentJpaRepository.sumAmountGroupedByPaymentMethod(from, to).stream()
+                .map(total -> new PaymentMethodRevenue(
+                        PaymentMethod.valueOf(total.getPaymentMethod()),
+                        valueOrZero(total.getTotal()),
+                        total.getPaymentCount()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<MemberRevenue> findRevenueByMember(YearMonth from, YearMonth to, int limit) {
+        return paymentJpaRepository.sumAmountGroupedByMember(from, to, PageRequest.of(0, limit)).stream()
+                .map(total -> new MemberRevenue(
+                        total.getMemberId(),
+                        total.getMemberName(),
+                        valueOrZero(total.getTotal()),
+                        total.getPaymentCount()))
+                .collect(Collectors.toList());
+    }
+
+    private PaymentLedgerEntry mapToLedgerEntry(PaymentJpaRepository.LedgerRow row) {
+        return new PaymentLedgerEntry(
+                row.getId(),
+                row.getMemberId(),
+                row.getMemberName(),
+                row.getPeriod(),
+                row.getPaymentDate(),
+                row.getAmount(),
+                PaymentMethod.valueOf(row.getPaymentMethod()),
+                row.getNotes());
+    }
+
+    private PeriodRevenue mapToPeriodRevenue(PaymentJpaRepository.PeriodTotal total) {
+        return new PeriodRevenue(total.getPeriod(), valueOrZero(total.getTotal()), total.getPaymentCount());
+    }
+
+    private static double valueOrZero(Double value) {
+        return value != null ? value : 0.0;
+    }
+
     @Override
     public Payment save(Payment payment) {
         PaymentEntity entity = mapToEntity(payment);
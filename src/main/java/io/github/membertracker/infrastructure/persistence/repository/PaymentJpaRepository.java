@@ -2,11 +2,18 @@ package io.github.membertracker.infrastructure.persistence.repository;
 
 import io.github.membertracker.infrastructure.persistence.entity.MemberEntity;
 import io.github.membertracker.infrastructure.persistence.entity.PaymentEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PaymentJpaRepository extends JpaRepository<PaymentEntity, Long> {
     List<PaymentEntity> findByMember(MemberEntity member);
@@ -16,4 +23,101 @@ public interface PaymentJpaRepository extends JpaRepository<PaymentEntity, Long>
     Optional<PaymentEntity> findFirstByMemberOrderByPaymentDateDesc(MemberEntity member);
 
     boolean existsByMemberAndPeriod(MemberEntity member, YearMonth period);
+
+    List<PaymentEntity> findAllByOrderByPaymentDateDescIdDesc(Pageable pageable);
+
+    @Query("SELECT p.id AS id, m.id AS memberId, m.name AS memberName, p.period AS period, " +
+           "p.paymentDate AS paymentDate, p.amount AS amount, p.paymentMethod AS paymentMethod, p.notes AS notes " +
+           "FROM PaymentEntity p JOIN p.member m " +
+           "WHERE (:memberId IS NULL OR m.id = :memberId) " +
+           "AND (:fromPeriod IS NULL OR p.period >= :fromPeriod) " +
+           "AND (:toPeriod IS NULL OR p.period <= :toPeriod) " +
+           "AND (:paymentMethod IS NULL OR p.paymentMethod = :paymentMethod) " +
+           "AND (:fromDate IS NULL OR p.paymentDate >= :fromDate) " +
+           "AND (:toDate IS NULL OR p.paymentDate <= :toDate) " +
+           "AND (:afterDate IS NULL OR p.paymentDate < :afterDate " +
+           "OR (p.paymentDate = :afterDate AND p.id < :afterId)) " +
+           "ORDER BY p.paymentDate DESC, p.id DESC")
+    List<LedgerRow> findLedgerPage(Long memberId, YearMonth fromPeriod, YearMonth toPeriod, String paymentMethod,
+                                   LocalDate fromDate, LocalDate toDate, LocalDate afterDate, Long afterId,
+                                   Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = MemberJpaRepository.STREAM_FETCH_SIZE))
+    @Query("SELECT p.id AS id, m.id AS memberId, m.name AS memberName, p.period AS period, " +
+           "p.paymentDate AS paymentDate, p.amount AS amount, p.paymentMethod AS paymentMethod, p.notes AS notes " +
+           "FROM PaymentEntity p JOIN p.member m ORDER BY p.id")
+    Stream<LedgerRow> streamLedgerOrderById();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = MemberJpaRepository.STREAM_FETCH_SIZE))
+    @Query("SELECT p.member.id AS memberId, p.period AS period FROM PaymentEntity p")
+    Stream<PaidPeriodRow> streamPaidPeriods();
+
+    @Query("SELECT p.period AS period, SUM(p.amount) AS total, COUNT(p) AS paymentCount " +
+           "FROM PaymentEntity p GROUP BY p.period ORDER BY p.period")
+    List<PeriodTotal> sumAmountGroupedByPeriod();
+
+    @Query("SELECT p.period AS period, SUM(p.amount) AS total, COUNT(p) AS paymentCount " +
+           "FROM PaymentEntity p WHERE p.period BETWEEN :from AND :to " +
+           "GROUP BY p.period ORDER BY p.period")
+    List<PeriodTotal> sumAmountGroupedByPeriod(YearMonth from, YearMonth to);
+
+    @Query("SELECT p.paymentMethod AS paymentMethod, SUM(p.amount) AS total, COUNT(p) AS paymentCount " +
+           "FROM PaymentEntity p WHERE p.period BETWEEN :from AND :to " +
+           "GROUP BY p.paymentMethod ORDER BY SUM(p.amount) DESC")
+    List<PaymentMethodTotal> sumAmountGroupedByPaymentMethod(YearMonth from, YearMonth to);
+
+    @Query("SELECT m.id AS memberId, m.name AS memberName, SUM(p.amount) AS total, COUNT(p) AS paymentCount " +
+           "FROM PaymentEntity p JOIN p.member m WHERE p.period BETWEEN :from AND :to " +
+           "GROUP BY m.id, m.name ORDER BY SUM(p.amount) DESC")
+    List<MemberTotal> sumAmountGroupedByMember(YearMonth from, YearMonth to, Pageable pageable);
+
+    interface LedgerRow {
+        Long getId();
+
+        Long getMemberId();
+
+        String getMemberName();
+
+        YearMonth getPeriod();
+
+        LocalDate getPaymentDate();
+
+        Double getAmount();
+
+        String getPaymentMethod();
+
+        String getNotes();
+    }
+
+    interface PaidPeriodRow {
+        Long getMemberId();
+
+        YearMonth getPeriod();
+    }
+
+    interface PeriodTotal {
+        YearMonth getPeriod();
+
+        Double getTotal();
+
+        Long getPaymentCount();
+    }
+
+    interface PaymentMethodTotal {
+        String getPaymentMethod();
+
+        Double getTotal();
+
+        Long getPaymentCount();
+    }
+
+    interface MemberTotal {
+        Long getMemberId();
+
+        String getMemberName();
+
+        Double getTotal();
+
+        Long getPaymentCount();
+    }
 }
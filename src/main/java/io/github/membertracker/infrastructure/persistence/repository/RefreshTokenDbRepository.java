@@ -0,0 +1,154 @@
+package io.github.membertracker.infrastructure.persistence.repository;
+
+import io.github.membertracker.domain.model.RefreshToken;
+import io.github.membertracker.domain.repository.RefreshTokenRepository;
+import io.github.membertracker.infrastructure.config.AuthProperties;
+import io.github.membertracker.infrastructure.persistence.entity.RefreshTokenEntity;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Refresh-token registry backed by the refresh_token table with an in-memory front cache
+ * keyed by token id, so a refresh looks its token up without a query. All state changes are
+ * written through, and revocation is decided by a conditional UPDATE, so nodes whose caches
+ * lag behind cannot both rotate the same token.
+ * The cache is a bounded LRU of active tokens only: revoked and expired tokens are evicted
+ * rather than kept, and a family index lets a family be revoked without scanning the cache.
+ */
+@Repository
+public class RefreshTokenDbRepository implements RefreshTokenRepository {
+
+    private final RefreshTokenJpaRepository refreshTokenJpaRepository;
+    private final EntityManager entityManager;
+    private final int cacheSize;
+    private final Map<String, RefreshToken> cache;
+    private final Map<String, Set<String>> cachedIdsByFamily = new HashMap<>();
+
+    public RefreshTokenDbRepository(RefreshTokenJpaRepository refreshTokenJpaRepository, EntityManager entityManager,
+                                    AuthProperties authProperties) {
+        this.refreshTokenJpaRepository = refreshTokenJpaRepository;
+        this.entityManager = entityManager;
+        this.cacheSize = authProperties.getRefreshTokenCacheSize();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RefreshToken> eldest) {
+                if (size() > cacheSize) {
+                    unindex(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public Optional<RefreshToken> findById(String tokenId) {
+        synchronized (cache) {
+            RefreshToken cached = cache.get(tokenId);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        Optional<RefreshToken> token = refreshTokenJpaRepository.findById(tokenId).map(this::mapToDomain);
+        token.filter(t -> !t.isRevoked()).ifPresent(this::cache);
+        return token;
+    }
+
+    @Override
+    @Transactional
+    public void save(RefreshToken token) {
+        // Always a new row; persist skips the SELECT that save() does for assigned ids
+        entityManager.persist(mapToEntity(token));
+        if (!token.isRevoked()) {
+            cache(token);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean revokeIfActive(String tokenId, LocalDateTime revokedAt) {
+        boolean revoked = refreshTokenJpaRepository.revokeIfActive(tokenId, revokedAt) == 1;
+        // Revoked here or elsewhere, the token is not active any more
+        synchronized (cache) {
+            RefreshToken evicted = cache.remove(tokenId);
+            if (evicted != null) {
+                unindex(evicted);
+            }
+        }
+        return revoked;
+    }
+
+    @Override
+    @Transactional
+    public int revokeFamily(String familyId, LocalDateTime revokedAt) {
+        int revoked = refreshTokenJpaRepository.revokeFamily(familyId, revokedAt);
+        synchronized (cache) {
+            Set<String> tokenIds = cachedIdsByFamily.remove(familyId);
+            if (tokenIds != null) {
+                cache.keySet().removeAll(tokenIds);
+            }
+        }
+        return revoked;
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpiredBefore(LocalDateTime cutoff) {
+        synchronized (cache) {
+            cache.values().removeIf(token -> {
+                if (token.getExpiresAt().isBefore(cutoff)) {
+                    unindex(token);
+                    return true;
+                }
+                return false;
+            });
+        }
+        return refreshTokenJpaRepository.deleteExpiredBefore(cutoff);
+    }
+
+    private void cache(RefreshToken token) {
+        if (cacheSize <= 0) {
+            return;
+        }
+        synchronized (cache) {
+            // Index first: inserting may evict the eldest entry, which unindexes it
+            cachedIdsByFamily.computeIfAbsent(token.getFamilyId(), id -> new HashSet<>()).add(token.getTokenId());
+            cache.put(token.getTokenId(), token);
+        }
+    }
+
+    // Callers hold the cache lock
+    private void unindex(RefreshToken token) {
+        Set<String> tokenIds = cachedIdsByFamily.get(token.getFamilyId());
+        if (tokenIds != null) {
+            tokenIds.remove(token.getTokenId());
+            if (tokenIds.isEmpty()) {
+                cachedIdsByFamily.remove(token.getFamilyId());
+            }
+        }
+    }
+
+    private RefreshToken mapToDomain(RefreshTokenEntity entity) {
+        return new RefreshToken(entity.getTokenId(), entity.getFamilyId(), entity.getEmail(),
+                entity.getExpiresAt(), entity.getRevokedAt());
+    }
+
+    private RefreshTokenEntity mapToEntity(RefreshToken token) {
+        RefreshTokenEntity entity = new RefreshTokenEntity();
+        entity.setTokenId(token.getTokenId());
+        entity.setFamilyId(token.getFamilyId());
+        entity.setEmail(token.getEmail());
+        entity.setExpiresAt(token.getExpiresAt());
+        entity.setRevokedAt(token.getRevokedAt());
+        return entity;
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.membertracker.infrastructure.persistence.repository;
+
+import io.github.membertracker.infrastructure.persistence.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, String> {
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.revokedAt = :revokedAt " +
+           "WHERE t.tokenId = :tokenId AND t.revokedAt IS NULL")
+    int revokeIfActive(String tokenId, LocalDateTime revokedAt);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.revokedAt = :revokedAt " +
+           "WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(String familyId, LocalDateTime revokedAt);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.expiresAt < :cutoff")
+    int deleteExpiredBefore(LocalDateTime cutoff);
+}
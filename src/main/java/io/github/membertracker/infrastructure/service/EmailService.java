@@ -1,7 +1,9 @@
 package io.github.membertracker.infrastructure.service;
 
+import io.github.membertracker.domain.model.Communication;
 import io.github.membertracker.domain.model.Member;
 import io.github.membertracker.infrastructure.config.MailProperties;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
@@ -15,6 +17,7 @@ import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 
@@ -26,10 +29,20 @@ public class EmailService {
     private final MailProperties mailProperties;
     private final TemplateEngine templateEngine;
     private JavaMailSender mailSender;
+    private SmtpTransportPool transportPool;
+    private SendRateLimiter rateLimiter;
+    private final Map<String, MessageTemplate> compiledTemplates;
 
     public EmailService(MailProperties mailProperties, TemplateEngine templateEngine) {
         this.mailProperties = mailProperties;
         this.templateEngine = templateEngine;
+        int cacheSize = mailProperties.getTemplates().getCompiledCacheSize();
+        this.compiledTemplates = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MessageTemplate> eldest) {
+                return size() > cacheSize;
+            }
+        };
         initializeMailSender();
     }
 
@@ -55,88 +68,84 @@ public class EmailService {
         props.put("mail.smtp.writetimeout", mailProperties.getSmtp().getWriteTimeout());
 
         this.mailSender = mailSenderImpl;
-        logger.info("Email service initialized for host: {}", mailProperties.getSmtp().getHost());
+        this.transportPool = new SmtpTransportPool(mailSenderImpl.getSession(), mailProperties.getSmtp(), mailProperties.getPool());
+        this.rateLimiter = new SendRateLimiter(mailProperties.getRateLimit().getPerSecond(),
+            mailProperties.getRateLimit().getPerMinute());
+        logger.info("Email service initialized for host: {} (up to {} pooled connections)",
+            mailProperties.getSmtp().getHost(), mailProperties.getPool().getMaxConnections());
+    }
+
+    @PreDestroy
+    public void closeConnections() {
+        if (transportPool != null) {
+            transportPool.close();
+        }
     }
 
     /**
-     * Send a simple text email to a member with retry support
+     * Sends a message once the provider's rate limit allows it; every attempt,
+     * including retries, counts against the limit
      */
-    public boolean sendSimpleEmail(Member member, String subject, String content) {
-        return sendSimpleEmailWithRetry(member, subject, content, null);
+    private void send(MimeMessage message) throws MessagingException {
+        try {
+            rateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for the send-rate limiter", e);
+        }
+        transportPool.send(message);
     }
 
     /**
-     * Send a simple text email with custom retry callback for status updates
+     * Returns true when mail is enabled and the sender was initialized
      */
-    public boolean sendSimpleEmailWithRetry(Member member, String subject, String content, 
-                                            RetryCallback retryCallback) {
-        if (!mailProperties.isEnabled() || mailSender == null) {
-            logger.warn("Email service is disabled or not initialized. Email not sent to: {}", member.getEmail());
-            return false;
-        }
+    public boolean isEnabled() {
+        return mailProperties.isEnabled() && mailSender != null;
+    }
 
-        int maxAttempts = mailProperties.getRetry().getMaxAttempts();
-        long initialDelay = mailProperties.getRetry().getInitialDelayMs();
-        double multiplier = mailProperties.getRetry().getMultiplier();
-        long maxDelay = mailProperties.getRetry().getMaxDelayMs();
-
-        Exception lastException = null;
-        
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
-            try {
-                if (retryCallback != null) {
-                    retryCallback.onRetry(attempt, maxAttempts);
-                }
-                
-                MimeMessage message = mailSender.createMimeMessage();
-                MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-                helper.setTo(member.getEmail());
-                helper.setFrom(mailProperties.getFrom());
-                helper.setSubject(subject);
-                helper.setText(content, false);
-
-                mailSender.send(message);
-                logger.info("Email sent successfully to: {} on attempt {}", member.getEmail(), attempt);
-                return true;
-                
-            } catch (MailException | MessagingException e) {
-                lastException = e;
-                logger.warn("Attempt {}/{} failed to send email to {}: {}", 
-                    attempt, maxAttempts, member.getEmail(), e.getMessage());
-                
-                if (attempt < maxAttempts) {
-                    long delay = calculateBackoffDelay(initialDelay, multiplier, attempt - 1, maxDelay);
-                    logger.info("Retrying in {}ms...", delay);
-                    try {
-                        Thread.sleep(delay);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        logger.error("Retry interrupted for {}: {}", member.getEmail(), ie.getMessage());
-                        break;
-                    }
-                }
-            }
+    /**
+     * Send a simple text email to a member
+     */
+    public boolean sendSimpleEmail(Member member, String subject, String content) {
+        try {
+            sendSimpleEmailAttempt(member, subject, content);
+            return true;
+        } catch (MailException | MessagingException e) {
+            logger.error("Failed to send email to {}: {}", member.getEmail(), e.getMessage());
+            return false;
         }
-        
-        logger.error("Failed to send email to {} after {} attempts: {}", 
-            member.getEmail(), maxAttempts, lastException != null ? lastException.getMessage() : "Unknown error");
-        return false;
     }
 
     /**
-     * Calculate exponential backoff delay
+     * Makes a single attempt to send a simple text email. Failures are thrown rather than
+     * retried here, so callers can reschedule the send instead of blocking on a backoff.
      */
-    private long calculateBackoffDelay(long initialDelay, double multiplier, int attempt, long maxDelay) {
-        double delay = initialDelay * Math.pow(multiplier, attempt);
-        return Math.min((long) delay, maxDelay);
+    public void sendSimpleEmailAttempt(Member member, String subject, String content) throws MessagingException {
+        if (!isEnabled()) {
+            throw new MessagingException("Email service is disabled or not initialized");
+        }
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setTo(member.getEmail());
+        helper.setFrom(mailProperties.getFrom());
+        helper.setSubject(subject);
+        helper.setText(content, false);
+
+        send(message);
+        logger.info("Email sent successfully to: {}", member.getEmail());
     }
 
     /**
-     * Retry callback interface for status updates during retries
+     * Makes a single attempt to send a communication to one of its recipients. The title and
+     * message are compiled once per communication; each recipient only has the personalization
+     * tokens (such as {{member_name}}) filled in.
      */
-    public interface RetryCallback {
-        void onRetry(int currentAttempt, int maxAttempts);
+    public void sendCommunicationAttempt(Member member, Communication communication) throws MessagingException {
+        MessageTemplate subject = communicationTemplate(communication, "subject", communication.getTitle());
+        MessageTemplate body = communicationTemplate(communication, "body", communication.getMessageContent());
+        sendSimpleEmailAttempt(member, subject.render(member), body.render(member));
     }
 
     /**
@@ -169,7 +178,7 @@ public class EmailService {
             helper.setSubject(subject);
             helper.setText(htmlContent, true); // true = HTML
 
-            mailSender.send(message);
+            send(message);
             logger.info("Templated email '{}' sent successfully to: {}", templateName, member.getEmail());
             return true;
         } catch (MailException | MessagingException e) {
@@ -181,6 +190,26 @@ public class EmailService {
         }
     }
 
+    private MessageTemplate communicationTemplate(Communication communication, String part, String source) {
+        if (communication.getId() == null) {
+            return MessageTemplate.compile(source);
+        }
+        String key = "communication:" + communication.getId() + ":" + part;
+        synchronized (compiledTemplates) {
+            MessageTemplate template = compiledTemplates.get(key);
+            // A communication edited since it was compiled is compiled again
+            if (template != null && template.getSource().equals(source != null ? source : "")) {
+                return template;
+            }
+        }
+        // Compiled outside the lock; a concurrent miss compiles the same template twice at worst
+        MessageTemplate template = MessageTemplate.compile(source);
+        synchronized (compiledTemplates) {
+            compiledTemplates.put(key, template);
+        }
+        return template;
+    }
+
     /**
      * Send a payment reminder email
      */
@@ -0,0 +1,112 @@
+package io.github.membertracker.infrastructure.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory login throttling and failed-attempt buffering.
+ * Attempts are limited per email and per client IP with sliding-window counters (the
+ * previous fixed window's count, weighted by how much of it still overlaps the sliding
+ * window, plus the current window's count). Failed passwords are also counted here, so
+ * the users table is only written when the failures add up to a lock.
+ */
+public class LoginThrottle {
+
+    // Idle windows are swept once this many keys are tracked
+    private static final int SWEEP_THRESHOLD = 10000;
+
+    private final int maxAttemptsPerEmail;
+    private final int maxAttemptsPerIp;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, SlidingWindow> windows = new ConcurrentHashMap<>();
+    private final Map<String, Integer> pendingFailures = new ConcurrentHashMap<>();
+
+    public LoginThrottle(int maxAttemptsPerEmail, int maxAttemptsPerIp, long windowSeconds) {
+        this(maxAttemptsPerEmail, maxAttemptsPerIp, windowSeconds, System::nanoTime);
+    }
+
+    LoginThrottle(int maxAttemptsPerEmail, int maxAttemptsPerIp, long windowSeconds, LongSupplier nanoClock) {
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Counts a login attempt against the email and the client IP.
+     *
+     * @return false if either has exceeded its budget for the window
+     */
+    public boolean tryAcquire(String email, String clientIp) {
+        long now = nanoClock.getAsLong();
+        if (windows.size() > SWEEP_THRESHOLD) {
+            windows.values().removeIf(window -> window.isIdle(now));
+        }
+        boolean emailAllowed = window("email:" + normalize(email), now).tryAcquire(now, maxAttemptsPerEmail);
+        boolean ipAllowed = clientIp == null || window("ip:" + clientIp, now).tryAcquire(now, maxAttemptsPerIp);
+        return emailAllowed && ipAllowed;
+    }
+
+    /**
+     * Records a failed password for the email.
+     *
+     * @return the failures recorded since they were last cleared
+     */
+    public int recordFailure(String email) {
+        return pendingFailures.merge(normalize(email), 1, Integer::sum);
+    }
+
+    /**
+     * Clears the failures of an email once they were applied to the user or the login succeeded.
+     */
+    public void clearFailures(String email) {
+        pendingFailures.remove(normalize(email));
+    }
+
+    private SlidingWindow window(String key, long now) {
+        return windows.computeIfAbsent(key, k -> new SlidingWindow(windowNanos, now));
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase();
+    }
+
+    private static final class SlidingWindow {
+        private final long windowNanos;
+        private long windowStart;
+        private int previousCount;
+        private int currentCount;
+
+        private SlidingWindow(long windowNanos, long now) {
+            this.windowNanos = windowNanos;
+            this.windowStart = now;
+        }
+
+        private synchronized boolean tryAcquire(long now, int limit) {
+            roll(now);
+            double overlap = 1.0 - (double) (now - windowStart) / windowNanos;
+            if (previousCount * overlap + currentCount >= limit) {
+                return false;
+            }
+            currentCount++;
+            return true;
+        }
+
+        private synchronized boolean isIdle(long now) {
+            return now - windowStart >= 2 * windowNanos;
+        }
+
+        private void roll(long now) {
+            long elapsedWindows = (now - windowStart) / windowNanos;
+            if (elapsedWindows == 0) {
+                return;
+            }
+            previousCount = elapsedWindows == 1 ? currentCount : 0;
+            currentCount = 0;
+            windowStart += elapsedWindows * windowNanos;
+        }
+    }
+}
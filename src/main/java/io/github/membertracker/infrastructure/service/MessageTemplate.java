@@ -0,0 +1,125 @@
+package io.github.membertracker.infrastructure.service;
+
+import io.github.membertracker.domain.model.Member;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message body split once into literal fragments and personalization tokens.
+ * Tokens are written as {@code {{member_name}}} or {@code {{member_email}}}; any other
+ * {@code {{...}}} is kept as literal text. Rendering for a recipient copies the fragments
+ * and the recipient's values into a builder sized up front, so the per-recipient cost is
+ * a single pass over the output with no parsing or pattern matching.
+ */
+public final class MessageTemplate {
+
+    private static final String TOKEN_START = "{{";
+    private static final String TOKEN_END = "}}";
+
+    public enum Token {
+        MEMBER_NAME("member_name"),
+        MEMBER_EMAIL("member_email");
+
+        private final String name;
+
+        Token(String name) {
+            this.name = name;
+        }
+
+        private String valueFor(Member member) {
+            String value = this == MEMBER_NAME ? member.getName() : member.getEmail();
+            return value != null ? value : "";
+        }
+
+        private static Token fromName(String name) {
+            for (Token token : values()) {
+                if (token.name.equals(name)) {
+                    return token;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final String source;
+    private final String[] fragments;
+    private final Token[] tokens;
+    private final int fixedLength;
+
+    private MessageTemplate(String source, String[] fragments, Token[] tokens) {
+        this.source = source;
+        this.fragments = fragments;
+        this.tokens = tokens;
+        int length = 0;
+        for (String fragment : fragments) {
+            length += fragment.length();
+        }
+        this.fixedLength = length;
+    }
+
+    /**
+     * Splits a template into fragments and tokens. Token values are inserted as they are,
+     * since communications are sent as plain text.
+     */
+    public static MessageTemplate compile(String source) {
+        if (source == null) {
+            source = "";
+        }
+        List<String> fragments = new ArrayList<>();
+        List<Token> tokens = new ArrayList<>();
+
+        int literalStart = 0;
+        int searchFrom = 0;
+        while (true) {
+            int start = source.indexOf(TOKEN_START, searchFrom);
+            if (start < 0) {
+                break;
+            }
+            int end = source.indexOf(TOKEN_END, start + TOKEN_START.length());
+            if (end < 0) {
+                break;
+            }
+            Token token = Token.fromName(source.substring(start + TOKEN_START.length(), end).trim());
+            if (token == null) {
+                // Not a personalization token: keep it as text and look further on
+                searchFrom = start + TOKEN_START.length();
+                continue;
+            }
+            fragments.add(source.substring(literalStart, start));
+            tokens.add(token);
+            literalStart = end + TOKEN_END.length();
+            searchFrom = literalStart;
+        }
+        fragments.add(source.substring(literalStart));
+
+        return new MessageTemplate(source, fragments.toArray(new String[0]), tokens.toArray(new Token[0]));
+    }
+
+    /**
+     * Returns the text the template was compiled from.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    public String render(Member member) {
+        if (tokens.length == 0) {
+            return fragments[0];
+        }
+
+        String[] values = new String[tokens.length];
+        int length = fixedLength;
+        for (int i = 0; i < tokens.length; i++) {
+            values[i] = tokens[i].valueFor(member);
+            length += values[i].length();
+        }
+
+        StringBuilder out = new StringBuilder(length);
+        out.append(fragments[0]);
+        for (int i = 0; i < tokens.length; i++) {
+            out.append(values[i]).append(fragments[i + 1]);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.membertracker.infrastructure.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket limiter for outgoing messages, with a per-second and a per-minute budget.
+ * Each send reserves one token from both buckets; when a bucket is empty the caller
+ * blocks until its token is due. Reservations are handed out in call order, so
+ * concurrent senders share the budget fairly and together never exceed it.
+ * A budget of zero or less disables that bucket.
+ */
+public class SendRateLimiter {
+
+    private final LongSupplier nanoClock;
+    private final Bucket perSecond;
+    private final Bucket perMinute;
+
+    public SendRateLimiter(int messagesPerSecond, int messagesPerMinute) {
+        this(messagesPerSecond, messagesPerMinute, System::nanoTime);
+    }
+
+    SendRateLimiter(int messagesPerSecond, int messagesPerMinute, LongSupplier nanoClock) {
+        long now = nanoClock.getAsLong();
+        this.nanoClock = nanoClock;
+        this.perSecond = new Bucket(messagesPerSecond, TimeUnit.SECONDS.toNanos(1), now);
+        this.perMinute = new Bucket(messagesPerMinute, TimeUnit.MINUTES.toNanos(1), now);
+    }
+
+    /**
+     * Blocks until a message may be sent.
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Reserves a token from both buckets.
+     *
+     * @return how long the caller must wait before sending, in nanoseconds
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        return Math.max(perSecond.reserve(now), perMinute.reserve(now));
+    }
+
+    private static final class Bucket {
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        private Bucket(int budget, long periodNanos, long now) {
+            this.capacity = budget;
+            this.tokensPerNano = budget > 0 ? (double) budget / periodNanos : 0;
+            this.tokens = budget;
+            this.lastRefill = now;
+        }
+
+        /**
+         * Takes one token, going into debt if none is left, and returns how long the
+         * caller must wait for it.
+         */
+        private long reserve(long now) {
+            if (capacity <= 0) {
+                return 0;
+            }
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+        }
+    }
+}
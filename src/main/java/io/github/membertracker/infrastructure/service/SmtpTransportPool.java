@@ -0,0 +1,182 @@
+package io.github.membertracker.infrastructure.service;
+
+import io.github.membertracker.infrastructure.config.MailProperties;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of connected, authenticated SMTP transports.
+ * Sending through a pooled connection skips the TCP, STARTTLS and AUTH handshake that
+ * {@code JavaMailSender.send} repeats for every message. At most {@code maxConnections}
+ * connections exist at a time; each is closed after {@code maxMessagesPerConnection}
+ * messages or when it has been idle longer than {@code maxIdleMs}, and a connection that
+ * fails is dropped and replaced.
+ */
+public class SmtpTransportPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmtpTransportPool.class);
+
+    // Idle connections older than this are probed with NOOP before reuse
+    private static final long VALIDATE_AFTER_IDLE_MS = 5000;
+
+    private final Session session;
+    private final MailProperties.Smtp smtp;
+    private final MailProperties.Pool pool;
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+
+    public SmtpTransportPool(Session session, MailProperties.Smtp smtp, MailProperties.Pool pool) {
+        this.session = session;
+        this.smtp = smtp;
+        this.pool = pool;
+        this.permits = new Semaphore(pool.getMaxConnections(), true);
+    }
+
+    /**
+     * Sends a message over a pooled connection, waiting for a free connection if all are busy.
+     * A failure on a reused connection is retried once on a new connection, since the server
+     * may have dropped it.
+     */
+    public void send(MimeMessage message) throws MessagingException {
+        try {
+            if (!permits.tryAcquire(pool.getBorrowTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("Timed out waiting for a pooled SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for a pooled SMTP connection", e);
+        }
+
+        try {
+            message.saveChanges();
+            PooledTransport transport = checkout();
+            try {
+                transport.send(message);
+                checkin(transport);
+            } catch (SendFailedException e) {
+                // Rejected recipients do not break the connection
+                checkin(transport);
+                throw e;
+            } catch (MessagingException e) {
+                transport.close();
+                if (transport.isNew()) {
+                    throw e;
+                }
+                logger.debug("Pooled SMTP connection failed, retrying on a new connection: {}", e.getMessage());
+                PooledTransport fresh = connect();
+                try {
+                    fresh.send(message);
+                    checkin(fresh);
+                } catch (MessagingException retryFailure) {
+                    fresh.close();
+                    throw retryFailure;
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Closes all idle connections. Connections in use are closed when they are returned.
+     */
+    public void close() {
+        PooledTransport transport;
+        while ((transport = idle.pollFirst()) != null) {
+            transport.close();
+        }
+    }
+
+    private PooledTransport checkout() throws MessagingException {
+        PooledTransport transport;
+        // Most recently used first, so surplus connections age out
+        while ((transport = idle.pollFirst()) != null) {
+            if (transport.getIdleMillis() > pool.getMaxIdleMs()) {
+                transport.close();
+            } else if (transport.getIdleMillis() > VALIDATE_AFTER_IDLE_MS && !transport.isConnected()) {
+                transport.close();
+            } else {
+                transport.markReused();
+                return transport;
+            }
+        }
+        return connect();
+    }
+
+    private void checkin(PooledTransport transport) {
+        if (transport.getMessagesSent() >= pool.getMaxMessagesPerConnection()) {
+            transport.close();
+        } else {
+            transport.markIdle();
+            idle.offerFirst(transport);
+        }
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        Transport transport = session.getTransport("smtp");
+        transport.connect(smtp.getHost(), smtp.getPort(), emptyToNull(smtp.getUsername()), emptyToNull(smtp.getPassword()));
+        return new PooledTransport(transport);
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private int messagesSent;
+        private long idleSince = System.currentTimeMillis();
+        private boolean reused;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        private void send(MimeMessage message) throws MessagingException {
+            transport.sendMessage(message, message.getAllRecipients());
+            messagesSent++;
+        }
+
+        private int getMessagesSent() {
+            return messagesSent;
+        }
+
+        private boolean isNew() {
+            return !reused;
+        }
+
+        private void markReused() {
+            reused = true;
+        }
+
+        private void markIdle() {
+            idleSince = System.currentTimeMillis();
+        }
+
+        private long getIdleMillis() {
+            return System.currentTimeMillis() - idleSince;
+        }
+
+        private boolean isConnected() {
+            return transport.isConnected();
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                logger.debug("Error closing SMTP connection: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.membertracker.scheduler;
+
+import io.github.membertracker.usecase.ReconcileDashboardStatsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DashboardStatsScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStatsScheduler.class);
+
+    private final ReconcileDashboardStatsUseCase reconcileDashboardStatsUseCase;
+
+    @Autowired
+    public DashboardStatsScheduler(ReconcileDashboardStatsUseCase reconcileDashboardStatsUseCase) {
+        this.reconcileDashboardStatsUseCase = reconcileDashboardStatsUseCase;
+    }
+
+    /**
+     * Seeds the dashboard totals once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeDashboardStats() {
+        reconcileDashboardStats();
+    }
+
+    /**
+     * Recounts the dashboard totals periodically (every 15 minutes by default) to correct drift
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.stats.reconcile-interval-ms:900000}",
+               initialDelayString = "${app.dashboard.stats.reconcile-interval-ms:900000}")
+    public void reconcileDashboardStats() {
+        try {
+            logger.debug("Reconciling dashboard statistics");
+            reconcileDashboardStatsUseCase.invoke();
+        } catch (Exception e) {
+            logger.error("Failed to reconcile dashboard statistics", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.membertracker.scheduler;
+
+import io.github.membertracker.infrastructure.config.MemberDeactivationProperties;
+import io.github.membertracker.usecase.DeactivateLapsedMembersUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MemberDeactivationScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberDeactivationScheduler.class);
+
+    private final DeactivateLapsedMembersUseCase deactivateLapsedMembersUseCase;
+    private final MemberDeactivationProperties memberDeactivationProperties;
+    private final String rolloverCron;
+
+    @Autowired
+    public MemberDeactivationScheduler(DeactivateLapsedMembersUseCase deactivateLapsedMembersUseCase,
+                                       MemberDeactivationProperties memberDeactivationProperties,
+                                       @Value("${app.arrears.rollover.cron:-}") String rolloverCron) {
+        this.deactivateLapsedMembersUseCase = deactivateLapsedMembersUseCase;
+        this.memberDeactivationProperties = memberDeactivationProperties;
+        this.rolloverCron = rolloverCron;
+    }
+
+    /**
+     * Deactivates lapsed members every day at 6:30 AM, after the missing payment counters
+     * have been rolled forward and before the payment reminders go out. Refuses to run while
+     * the arrears rollover is switched off, as the counters it judges by would be stale
+     */
+    @Scheduled(cron = "${app.members.deactivation.cron:0 30 6 * * ?}")
+    public void deactivateLapsedMembers() {
+        if (!memberDeactivationProperties.isEnabled()) {
+            return;
+        }
+        if (Scheduled.CRON_DISABLED.equals(rolloverCron)) {
+            logger.warn("Skipping deactivation of lapsed members: the arrears rollover is switched off");
+            return;
+        }
+        try {
+            logger.info("Starting deactivation of lapsed members");
+            int deactivated = deactivateLapsedMembersUseCase.invoke();
+            logger.info("Deactivated {} lapsed members", deactivated);
+        } catch (Exception e) {
+            logger.error("Failed to deactivate lapsed members", e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.membertracker.scheduler;
+
+import io.github.membertracker.infrastructure.config.MailProperties;
+import io.github.membertracker.usecase.DispatchPendingDeliveriesUseCase;
+import io.github.membertracker.usecase.ReleaseStaleDeliveryClaimsUseCase;
+import io.github.membertracker.usecase.SendCommunicationToAllMembersUseCase;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the delivery outbox with a bounded pool of workers.
+ * Each poll starts a worker if none is running; a worker that claims a full batch starts
+ * another one (up to the configured maximum) so a large backlog is sent in parallel.
+ * Several application nodes can run this side by side since claims skip locked rows.
+ */
+@Component
+public class MessageOutboxScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageOutboxScheduler.class);
+
+    private final DispatchPendingDeliveriesUseCase dispatchPendingDeliveriesUseCase;
+    private final ReleaseStaleDeliveryClaimsUseCase releaseStaleDeliveryClaimsUseCase;
+    private final SendCommunicationToAllMembersUseCase sendCommunicationToAllMembersUseCase;
+    private final MailProperties.Outbox outbox;
+    private final ExecutorService workers;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private volatile boolean running = true;
+
+    @Autowired
+    public MessageOutboxScheduler(DispatchPendingDeliveriesUseCase dispatchPendingDeliveriesUseCase,
+                                  ReleaseStaleDeliveryClaimsUseCase releaseStaleDeliveryClaimsUseCase,
+                                  SendCommunicationToAllMembersUseCase sendCommunicationToAllMembersUseCase,
+                                  MailProperties mailProperties) {
+        this.dispatchPendingDeliveriesUseCase = dispatchPendingDeliveriesUseCase;
+        this.releaseStaleDeliveryClaimsUseCase = releaseStaleDeliveryClaimsUseCase;
+        this.sendCommunicationToAllMembersUseCase = sendCommunicationToAllMembersUseCase;
+        this.outbox = mailProperties.getOutbox();
+        this.workers = Executors.newFixedThreadPool(outbox.getWorkers(), new CustomizableThreadFactory("outbox-worker-"));
+    }
+
+    /**
+     * Polls the outbox for pending deliveries (every second by default)
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:1000}")
+    public void dispatchPendingDeliveries() {
+        if (activeWorkers.get() == 0) {
+            startWorker();
+        }
+    }
+
+    /**
+     * Returns deliveries claimed by crashed workers to the outbox (every minute)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void releaseStaleClaims() {
+        try {
+            int released = releaseStaleDeliveryClaimsUseCase.invoke(Duration.ofMillis(outbox.getClaimTimeoutMs()));
+            if (released > 0) {
+                logger.warn("Released {} stale delivery claims back to the outbox", released);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to release stale delivery claims", e);
+        }
+    }
+
+    /**
+     * Finishes queueing send-to-all communications left half queued when a node stopped
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedCommunications() {
+        try {
+            sendCommunicationToAllMembersUseCase.resumeUnfinished();
+        } catch (Exception e) {
+            logger.error("Failed to resume queueing of unfinished communications", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        // Claims left open by an unfinished batch are released by another node or after a restart
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void startWorker() {
+        int current;
+        do {
+            current = activeWorkers.get();
+            if (!running || current >= outbox.getWorkers()) {
+                return;
+            }
+        } while (!activeWorkers.compareAndSet(current, current + 1));
+        workers.execute(this::drain);
+    }
+
+    private void drain() {
+        try {
+            while (running) {
+                int claimed = dispatchPendingDeliveriesUseCase.invoke(outbox.getBatchSize());
+                if (claimed < outbox.getBatchSize()) {
+                    return;
+                }
+                startWorker();
+            }
+        } catch (Exception e) {
+            logger.error("Outbox worker failed", e);
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.membertracker.scheduler;
+
+import io.github.membertracker.usecase.RebuildPaymentMonthIndexUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentMonthIndexScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentMonthIndexScheduler.class);
+
+    private final RebuildPaymentMonthIndexUseCase rebuildPaymentMonthIndexUseCase;
+
+    @Autowired
+    public PaymentMonthIndexScheduler(RebuildPaymentMonthIndexUseCase rebuildPaymentMonthIndexUseCase) {
+        this.rebuildPaymentMonthIndexUseCase = rebuildPaymentMonthIndexUseCase;
+    }
+
+    /**
+     * Builds the paid-month index once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializePaymentMonthIndex() {
+        rebuildPaymentMonthIndex();
+    }
+
+    /**
+     * Rebuilds the paid-month index periodically (every hour by default) to correct drift
+     */
+    @Scheduled(fixedDelayString = "${app.payments.month-index.rebuild-interval-ms:3600000}",
+               initialDelayString = "${app.payments.month-index.rebuild-interval-ms:3600000}")
+    public void rebuildPaymentMonthIndex() {
+        try {
+            logger.debug("Rebuilding payment month index");
+            rebuildPaymentMonthIndexUseCase.invoke();
+        } catch (Exception e) {
+            logger.error("Failed to rebuild payment month index", e);
+        }
+    }
+}
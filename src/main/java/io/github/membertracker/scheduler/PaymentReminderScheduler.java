@@ -1,13 +1,22 @@
 package io.github.membertracker.scheduler;
 
+import io.github.membertracker.domain.model.ArrearsRolloverResult;
 import io.github.membertracker.usecase.SendPaymentRemindersUseCase;
 import io.github.membertracker.usecase.UpdateMissingPaymentCountersUseCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * Runs the arrears rollover and the payment reminders on the crons set in
+ * {@code app.arrears.rollover.cron} and {@code app.payment.reminder.cron}.
+ * Both default to {@code -}, which leaves the jobs off until a deployment opts in.
+ */
 @Component
 public class PaymentReminderScheduler {
 
@@ -15,32 +24,54 @@ public class PaymentReminderScheduler {
 
     private final UpdateMissingPaymentCountersUseCase updateMissingPaymentCountersUseCase;
     private final SendPaymentRemindersUseCase sendPaymentRemindersUseCase;
+    private final String rolloverCron;
 
     @Autowired
     public PaymentReminderScheduler(UpdateMissingPaymentCountersUseCase updateMissingPaymentCountersUseCase,
-                                   SendPaymentRemindersUseCase sendPaymentRemindersUseCase) {
+                                   SendPaymentRemindersUseCase sendPaymentRemindersUseCase,
+                                   @Value("${app.arrears.rollover.cron:-}") String rolloverCron) {
         this.updateMissingPaymentCountersUseCase = updateMissingPaymentCountersUseCase;
         this.sendPaymentRemindersUseCase = sendPaymentRemindersUseCase;
+        this.rolloverCron = rolloverCron;
     }
 
     /**
-     * Updates missing payment counters every day at 6 AM
+     * Catches up on periods that rolled over while the application was down,
+     * unless the rollover is switched off
      */
-    @Scheduled(cron = "0 0 6 * * ?")
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUpMissingPaymentCounters() {
+        if (Scheduled.CRON_DISABLED.equals(rolloverCron)) {
+            return;
+        }
+        updateMissingPaymentCounters();
+    }
+
+    /**
+     * Updates missing payment counters, e.g. every day at 6 AM with {@code 0 0 6 * * ?}.
+     * Idempotent: a period already rolled over is never applied again.
+     */
+    @Scheduled(cron = "${app.arrears.rollover.cron:-}")
     public void updateMissingPaymentCounters() {
         try {
             logger.info("Starting update of missing payment counters");
-            updateMissingPaymentCountersUseCase.invoke();
-            logger.info("Successfully updated missing payment counters");
+            ArrearsRolloverResult result = updateMissingPaymentCountersUseCase.invoke();
+            if (result.getProcessedPeriods().isEmpty()) {
+                logger.info("Missing payment counters are already up to date");
+            } else {
+                logger.info("Successfully updated missing payment counters for periods {} ({} counters incremented)",
+                    result.getProcessedPeriods(), result.getMembersUpdated());
+            }
         } catch (Exception e) {
             logger.error("Failed to update missing payment counters", e);
         }
     }
 
     /**
-     * Sends payment reminders every day at 9 AM for members who have missed 2 or more payments
+     * Sends payment reminders for members who have missed 2 or more payments,
+     * e.g. every day at 9 AM with {@code 0 0 9 * * ?}
      */
-    @Scheduled(cron = "0 0 9 * * ?")
+    @Scheduled(cron = "${app.payment.reminder.cron:-}")
     public void sendPaymentReminders() {
         try {
             logger.info("Starting payment reminder process");
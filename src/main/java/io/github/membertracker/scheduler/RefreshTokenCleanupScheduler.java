@@ -0,0 +1,36 @@
+package io.github.membertracker.scheduler;
+
+import io.github.membertracker.usecase.PurgeExpiredRefreshTokensUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RefreshTokenCleanupScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenCleanupScheduler.class);
+
+    private final PurgeExpiredRefreshTokensUseCase purgeExpiredRefreshTokensUseCase;
+
+    @Autowired
+    public RefreshTokenCleanupScheduler(PurgeExpiredRefreshTokensUseCase purgeExpiredRefreshTokensUseCase) {
+        this.purgeExpiredRefreshTokensUseCase = purgeExpiredRefreshTokensUseCase;
+    }
+
+    /**
+     * Removes expired refresh tokens from the registry (every hour)
+     */
+    @Scheduled(fixedDelay = 3600000)
+    public void purgeExpiredRefreshTokens() {
+        try {
+            int deleted = purgeExpiredRefreshTokensUseCase.invoke();
+            if (deleted > 0) {
+                logger.info("Purged {} expired refresh tokens", deleted);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to purge expired refresh tokens", e);
+        }
+    }
+}
@@ -1,27 +1,43 @@
 package io.github.membertracker.usecase;
 
+import io.github.membertracker.domain.cache.UserPrincipalCache;
 import io.github.membertracker.domain.exception.UserDomainException;
 import io.github.membertracker.domain.model.User;
 import io.github.membertracker.domain.repository.UserRepository;
+import io.github.membertracker.infrastructure.service.LoginThrottle;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 public class AuthenticateUserUseCase {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache userPrincipalCache;
+    private final LoginThrottle loginThrottle;
 
-    public AuthenticateUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthenticateUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                   UserPrincipalCache userPrincipalCache, LoginThrottle loginThrottle) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userPrincipalCache = userPrincipalCache;
+        this.loginThrottle = loginThrottle;
     }
 
-    public User invoke(String email, String password) {
+    /**
+     * Verifies a login. Failed passwords are counted in memory and only written to the user
+     * when they lock the account; a successful login only writes if there was something to reset.
+     *
+     * @param clientIp the caller's address, throttled alongside the email
+     */
+    public User invoke(String email, String password, String clientIp) {
+        if (!loginThrottle.tryAcquire(email, clientIp)) {
+            throw UserDomainException.tooManyLoginAttempts();
+        }
+
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> UserDomainException.userNotFound(email));
 
         if (!passwordEncoder.matches(password, user.getPassword())) {
-            user.recordFailedLoginAttempt();
-            userRepository.save(user);
+            recordFailedAttempt(user);
             throw UserDomainException.invalidPassword();
         }
 
@@ -37,9 +53,27 @@ public class AuthenticateUserUseCase {
             throw UserDomainException.credentialsExpired(email);
         }
 
-        user.resetFailedLoginAttempts();
-        userRepository.save(user);
+        loginThrottle.clearFailures(email);
+        if (user.getFailedLoginAttempts() > 0) {
+            user.resetFailedLoginAttempts();
+            userRepository.save(user);
+        }
         
         return user;
     }
-}
\ No newline at end of file
+
+    private void recordFailedAttempt(User user) {
+        if (user.isAccountLocked()) {
+            return;
+        }
+        int pending = loginThrottle.recordFailure(user.getUsername());
+        for (int i = 0; i < pending; i++) {
+            user.recordFailedLoginAttempt();
+        }
+        if (user.isAccountLocked()) {
+            userRepository.save(user);
+            loginThrottle.clearFailures(user.getUsername());
+            userPrincipalCache.invalidate(user.getUsername());
+        }
+    }
+}
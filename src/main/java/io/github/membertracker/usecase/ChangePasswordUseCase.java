@@ -1,11 +1,14 @@
 package io.github.membertracker.usecase;
 
+import io.github.membertracker.domain.cache.UserPrincipalCache;
 import io.github.membertracker.domain.exception.UserDomainException;
 import io.github.membertracker.domain.model.User;
 import io.github.membertracker.domain.repository.UserRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Transactional
@@ -13,10 +16,13 @@ public class ChangePasswordUseCase {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public ChangePasswordUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public ChangePasswordUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                 UserPrincipalCache userPrincipalCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     public User execute(Long userId, String currentPassword, String newPassword) {
@@ -34,6 +40,22 @@ public class ChangePasswordUseCase {
         // Update password
         user.changePassword(passwordEncoder.encode(newPassword));
         
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        invalidateAfterCommit(user.getUsername());
+        return saved;
+    }
+
+    // Evicting before the commit would let a concurrent request cache the old password again
+    private void invalidateAfterCommit(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userPrincipalCache.invalidate(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userPrincipalCache.invalidate(email);
+            }
+        });
     }
 }
\ No newline at end of file
@@ -15,6 +15,8 @@ public class CreateCommunicationUseCase {
 
     public Communication invoke(Communication communication) {
         communication.setCreatedDate(LocalDateTime.now());
+        // Only send-to-all tracks queueing progress; a client cannot start one through here
+        communication.setEnqueueStatus(null);
         return communicationRepository.save(communication);
     }
 }
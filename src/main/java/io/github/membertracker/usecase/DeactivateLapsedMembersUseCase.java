@@ -0,0 +1,70 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.Member;
+import io.github.membertracker.domain.policy.MembershipPolicy;
+import io.github.membertracker.domain.repository.MemberRepository;
+import io.github.membertracker.domain.stats.DashboardStatsTracker;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DeactivateLapsedMembersUseCase {
+
+    private final MemberRepository memberRepository;
+    private final MembershipPolicy membershipPolicy;
+    private final DashboardStatsTracker dashboardStatsTracker;
+    private final int chunkSize;
+
+    /**
+     * @param chunkSize the most members read and deactivated per transaction
+     */
+    public DeactivateLapsedMembersUseCase(MemberRepository memberRepository,
+                                          MembershipPolicy membershipPolicy,
+                                          DashboardStatsTracker dashboardStatsTracker,
+                                          int chunkSize) {
+        this.memberRepository = memberRepository;
+        this.membershipPolicy = membershipPolicy;
+        this.dashboardStatsTracker = dashboardStatsTracker;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Deactivates every active member the membership policy says should be deactivated.
+     * Candidates are read in id order, one chunk at a time, using the policy's threshold on
+     * the consecutive months missed. Each chunk is then deactivated with one batched update
+     * in its own transaction, which also records an activity log entry per member.
+     *
+     * @return the number of members deactivated
+     */
+    public int invoke() {
+        LocalDate currentDate = LocalDate.now();
+        int threshold = membershipPolicy.getDeactivationThreshold();
+        long afterId = 0;
+        int deactivated = 0;
+
+        while (true) {
+            List<Member> candidates = memberRepository.findDeactivationCandidates(threshold, afterId, chunkSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = new ArrayList<>(candidates.size());
+            for (Member member : candidates) {
+                if (membershipPolicy.shouldDeactivate(member, currentDate)) {
+                    ids.add(member.getId());
+                }
+            }
+
+            int count = memberRepository.deactivateAll(ids, threshold);
+            dashboardStatsTracker.membersDeactivated(count);
+            deactivated += count;
+
+            if (candidates.size() < chunkSize) {
+                break;
+            }
+            afterId = candidates.get(candidates.size() - 1).getId();
+        }
+        return deactivated;
+    }
+}
@@ -1,21 +1,44 @@
 package io.github.membertracker.usecase;
 
+import io.github.membertracker.domain.model.Payment;
 import io.github.membertracker.domain.repository.MemberRepository;
+import io.github.membertracker.domain.repository.PaymentRepository;
+import io.github.membertracker.domain.stats.DashboardStatsTracker;
+import io.github.membertracker.domain.stats.PaymentMonthIndex;
+
+import java.util.List;
 
 public class DeleteMemberUseCase {
 
     private final MemberRepository memberRepository;
+    private final PaymentRepository paymentRepository;
+    private final DashboardStatsTracker dashboardStatsTracker;
+    private final PaymentMonthIndex paymentMonthIndex;
 
-    public DeleteMemberUseCase(MemberRepository memberRepository) {
+    public DeleteMemberUseCase(MemberRepository memberRepository,
+                               PaymentRepository paymentRepository,
+                               DashboardStatsTracker dashboardStatsTracker,
+                               PaymentMonthIndex paymentMonthIndex) {
         this.memberRepository = memberRepository;
+        this.paymentRepository = paymentRepository;
+        this.dashboardStatsTracker = dashboardStatsTracker;
+        this.paymentMonthIndex = paymentMonthIndex;
     }
 
     /**
      * Deletes a member from the database by their ID.
+     * The member's payments are removed by the database cascade, so their amounts
+     * are taken out of the dashboard revenue as well.
      *
      * @param id the ID of the member to delete
      */
     public void invoke(Long id) {
-        memberRepository.deleteById(id);
+        memberRepository.findById(id).ifPresentOrElse(member -> {
+            List<Payment> payments = paymentRepository.findByMember(member);
+            memberRepository.deleteById(id);
+            dashboardStatsTracker.memberRemoved(member);
+            payments.forEach(dashboardStatsTracker::paymentRemoved);
+            paymentMonthIndex.memberRemoved(id);
+        }, () -> memberRepository.deleteById(id));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,129 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.Communication;
+import io.github.membertracker.domain.model.DeliveryStatusUpdate;
+import io.github.membertracker.domain.model.Member;
+import io.github.membertracker.domain.model.MessageDelivery;
+import io.github.membertracker.domain.repository.MessageDeliveryRepository;
+import io.github.membertracker.infrastructure.config.MailProperties;
+import io.github.membertracker.infrastructure.service.EmailService;
+import jakarta.mail.MessagingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class DispatchPendingDeliveriesUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(DispatchPendingDeliveriesUseCase.class);
+
+    private final MessageDeliveryRepository messageDeliveryRepository;
+    private final EmailService emailService;
+    private final MailProperties.Retry retryPolicy;
+    private final int statusFlushSize;
+    private final long statusFlushIntervalNanos;
+
+    public DispatchPendingDeliveriesUseCase(MessageDeliveryRepository messageDeliveryRepository,
+                                            EmailService emailService,
+                                            MailProperties.Retry retryPolicy,
+                                            int statusFlushSize,
+                                            long statusFlushIntervalMs) {
+        this.messageDeliveryRepository = messageDeliveryRepository;
+        this.emailService = emailService;
+        this.retryPolicy = retryPolicy;
+        this.statusFlushSize = Math.max(1, statusFlushSize);
+        this.statusFlushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(statusFlushIntervalMs);
+    }
+
+    /**
+     * Claims one batch of pending deliveries from the outbox, sends them and records each result.
+     * A failed send makes a single attempt and is put back in the outbox with a backoff, so a
+     * slow or failing recipient never holds up the rest of the batch.
+     * Results are buffered and written back in bulk every {@code statusFlushSize} results or
+     * {@code statusFlushIntervalMs}, whichever comes first, and always before returning.
+     *
+     * @param batchSize the maximum number of deliveries to claim
+     * @return the number of deliveries claimed; fewer than the batch size means the outbox is drained
+     */
+    public int invoke(int batchSize) {
+        List<MessageDelivery> batch = messageDeliveryRepository.claimPending(batchSize);
+        List<DeliveryStatusUpdate> results = new ArrayList<>(Math.min(batch.size(), statusFlushSize));
+        long lastFlush = System.nanoTime();
+        try {
+            for (MessageDelivery delivery : batch) {
+                results.add(dispatch(delivery));
+                if (results.size() >= statusFlushSize || System.nanoTime() - lastFlush >= statusFlushIntervalNanos) {
+                    flush(results);
+                    lastFlush = System.nanoTime();
+                }
+            }
+        } finally {
+            // Unflushed deliveries stay SENDING and would only be re-sent after the claim timeout
+            flush(results);
+        }
+        return batch.size();
+    }
+
+    private DeliveryStatusUpdate dispatch(MessageDelivery delivery) {
+        Member member = delivery.getRecipient();
+        Communication communication = delivery.getCommunication();
+        int attempt = delivery.getAttemptCount() + 1;
+
+        if (delivery.getChannel() != MessageDelivery.DeliveryChannel.EMAIL) {
+            return DeliveryStatusUpdate.completed(delivery, MessageDelivery.DeliveryStatus.FAILED,
+                delivery.getAttemptCount(), delivery.getChannel() + " not implemented");
+        }
+
+        if (!emailService.isEnabled()) {
+            return DeliveryStatusUpdate.completed(delivery, MessageDelivery.DeliveryStatus.FAILED,
+                delivery.getAttemptCount(), "Email service is disabled");
+        }
+
+        try {
+            emailService.sendCommunicationAttempt(member, communication);
+            return DeliveryStatusUpdate.completed(delivery, MessageDelivery.DeliveryStatus.SENT, attempt, null);
+        } catch (MailException | MessagingException e) {
+            return failedAttempt(delivery, attempt, e);
+        } catch (Exception e) {
+            logger.error("Error sending email to {}: {}", member.getEmail(), e.getMessage(), e);
+            return DeliveryStatusUpdate.completed(delivery, MessageDelivery.DeliveryStatus.FAILED, attempt,
+                "Exception: " + e.getMessage());
+        }
+    }
+
+    private DeliveryStatusUpdate failedAttempt(MessageDelivery delivery, int attempt, Exception e) {
+        String email = delivery.getRecipient().getEmail();
+        int maxAttempts = retryPolicy.getMaxAttempts();
+
+        if (attempt < maxAttempts) {
+            long delayMs = retryPolicy.backoffDelayMs(attempt);
+            logger.warn("Attempt {}/{} failed to send email to {}: {}; retrying in {}ms",
+                attempt, maxAttempts, email, e.getMessage(), delayMs);
+            return DeliveryStatusUpdate.retry(delivery, attempt,
+                LocalDateTime.now().plus(Duration.ofMillis(delayMs)),
+                "Attempt " + attempt + "/" + maxAttempts + " failed: " + e.getMessage());
+        }
+
+        logger.error("Failed to send email to {} after {} attempts: {}", email, attempt, e.getMessage());
+        return DeliveryStatusUpdate.completed(delivery, MessageDelivery.DeliveryStatus.FAILED, attempt,
+            "Failed after " + attempt + " attempts: " + e.getMessage());
+    }
+
+    private void flush(List<DeliveryStatusUpdate> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        int applied = messageDeliveryRepository.updateStatuses(List.copyOf(results));
+        if (applied < results.size()) {
+            // Their claims timed out and were released, so another send attempt owns them now
+            logger.warn("Discarded {} of {} delivery results whose claim was no longer held",
+                results.size() - applied, results.size());
+        }
+        results.clear();
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.enumeration.MemberStanding;
+import io.github.membertracker.domain.model.MemberStandingReport;
+import io.github.membertracker.domain.policy.MembershipPolicy;
+import io.github.membertracker.domain.repository.MemberRepository;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+public class EvaluateMemberStandingsUseCase {
+
+    private final MemberRepository memberRepository;
+    private final MembershipPolicy membershipPolicy;
+
+    public EvaluateMemberStandingsUseCase(MemberRepository memberRepository, MembershipPolicy membershipPolicy) {
+        this.memberRepository = memberRepository;
+        this.membershipPolicy = membershipPolicy;
+    }
+
+    /**
+     * Evaluates every membership policy rule for all members in one pass over the table.
+     *
+     * @param standings only members in one of these standings are returned, or all members when empty
+     * @return the columnar results, with counts per standing for the whole roster
+     */
+    public MemberStandingReport invoke(Set<MemberStanding> standings) {
+        LocalDate currentDate = LocalDate.now();
+        MemberStandingReport.Builder builder = new MemberStandingReport.Builder(
+            currentDate, (int) memberRepository.count());
+
+        memberRepository.forEachForEvaluation(member -> builder.add(
+            member,
+            membershipPolicy.isInGoodStanding(member, currentDate),
+            membershipPolicy.shouldSendReminder(member, currentDate),
+            membershipPolicy.shouldDeactivate(member, currentDate),
+            membershipPolicy.canReactivate(member, currentDate),
+            membershipPolicy.daysUntilPaymentDue(member, currentDate)
+        ));
+
+        MemberStandingReport report = builder.build();
+        return standings.isEmpty() ? report : report.filter(standings);
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.Member;
+import io.github.membertracker.domain.repository.MemberRepository;
+
+import java.util.function.Consumer;
+
+public class ExportMembersUseCase {
+
+    private final MemberRepository memberRepository;
+
+    public ExportMembersUseCase(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    /**
+     * Streams every member to the given sink without loading the whole table.
+     *
+     * @param sink receives each member in id order
+     */
+    public void invoke(Consumer<Member> sink) {
+        memberRepository.forEach(sink);
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.PaymentLedgerEntry;
+import io.github.membertracker.domain.repository.PaymentRepository;
+
+import java.util.function.Consumer;
+
+public class ExportPaymentsUseCase {
+
+    private final PaymentRepository paymentRepository;
+
+    public ExportPaymentsUseCase(PaymentRepository paymentRepository) {
+        this.paymentRepository = paymentRepository;
+    }
+
+    /**
+     * Streams every payment to the given sink without loading the whole table.
+     *
+     * @param sink receives each payment, as a ledger entry, in id order
+     */
+    public void invoke(Consumer<PaymentLedgerEntry> sink) {
+        paymentRepository.forEachLedgerEntry(sink);
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.DashboardStats;
+import io.github.membertracker.domain.stats.DashboardStatsTracker;
+
+import java.time.YearMonth;
+
+public class GetDashboardStatsUseCase {
+
+    private final DashboardStatsTracker dashboardStatsTracker;
+    private final ReconcileDashboardStatsUseCase reconcileDashboardStatsUseCase;
+
+    public GetDashboardStatsUseCase(DashboardStatsTracker dashboardStatsTracker,
+                                    ReconcileDashboardStatsUseCase reconcileDashboardStatsUseCase) {
+        this.dashboardStatsTracker = dashboardStatsTracker;
+        this.reconcileDashboardStatsUseCase = reconcileDashboardStatsUseCase;
+    }
+
+    /**
+     * Returns the dashboard figures for the current month from the in-memory totals.
+     * The totals are seeded on first use if the startup reconciliation has not run yet.
+     *
+     * @return the current dashboard statistics
+     */
+    public DashboardStats invoke() {
+        if (!dashboardStatsTracker.isInitialized()) {
+            reconcileDashboardStatsUseCase.invoke();
+        }
+        return dashboardStatsTracker.snapshot(YearMonth.now());
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.enumeration.MemberSortKey;
+import io.github.membertracker.domain.model.KeysetPage;
+import io.github.membertracker.domain.model.Member;
+import io.github.membertracker.domain.repository.MemberRepository;
+
+public class GetMembersPageUseCase {
+
+    private final MemberRepository memberRepository;
+
+    public GetMembersPageUseCase(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    /**
+     * Retrieves one page of the member listing, resuming after the given cursor.
+     *
+     * @param active only active or only inactive members, or all members when null
+     * @param sortKey the ordering of the listing
+     * @param cursor the next cursor returned with the previous page, or null for the first page
+     * @param size the maximum number of members to return
+     * @return the page of members and the cursor of the following page
+     */
+    public KeysetPage<Member> invoke(Boolean active, MemberSortKey sortKey, String cursor, int size) {
+        return memberRepository.findPage(active, sortKey, cursor, size);
+    }
+}
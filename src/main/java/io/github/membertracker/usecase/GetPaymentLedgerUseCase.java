@@ -0,0 +1,27 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.KeysetPage;
+import io.github.membertracker.domain.model.PaymentLedgerEntry;
+import io.github.membertracker.domain.model.PaymentLedgerFilter;
+import io.github.membertracker.domain.repository.PaymentRepository;
+
+public class GetPaymentLedgerUseCase {
+
+    private final PaymentRepository paymentRepository;
+
+    public GetPaymentLedgerUseCase(PaymentRepository paymentRepository) {
+        this.paymentRepository = paymentRepository;
+    }
+
+    /**
+     * Retrieves one page of the payments ledger, newest payment first.
+     *
+     * @param filter the member, period, payment method and date filters
+     * @param cursor the next cursor returned with the previous page, or null for the first page
+     * @param size the maximum number of payments to return
+     * @return the page of ledger entries and the cursor of the following page
+     */
+    public KeysetPage<PaymentLedgerEntry> invoke(PaymentLedgerFilter filter, String cursor, int size) {
+        return paymentRepository.findLedgerPage(filter, cursor, size);
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.RecentActivity;
+import io.github.membertracker.domain.repository.ActivityLogRepository;
+import io.github.membertracker.domain.repository.CommunicationRepository;
+import io.github.membertracker.domain.repository.PaymentRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+public class GetRecentActivitiesUseCase {
+
+    private static final Comparator<LocalDate> NEWEST_FIRST =
+            Comparator.nullsLast(Comparator.<LocalDate>reverseOrder());
+
+    private final PaymentRepository paymentRepository;
+    private final CommunicationRepository communicationRepository;
+    private final ActivityLogRepository activityLogRepository;
+
+    public GetRecentActivitiesUseCase(PaymentRepository paymentRepository,
+                                      CommunicationRepository communicationRepository,
+                                      ActivityLogRepository activityLogRepository) {
+        this.paymentRepository = paymentRepository;
+        this.communicationRepository = communicationRepository;
+        this.activityLogRepository = activityLogRepository;
+    }
+
+    /**
+     * Builds the recent activity feed from the latest payments, communications and
+     * activity log entries.
+     * Each source returns at most {@code limit} rows already sorted newest first,
+     * so the feed is a k-way merge of the sorted heads and its cost does not grow with history.
+     *
+     * @param limit the maximum number of activities to return
+     * @return the merged activities, newest first
+     */
+    public List<RecentActivity> invoke(int limit) {
+        List<List<RecentActivity>> sources = List.of(
+            paymentRepository.findMostRecent(limit).stream()
+                    .map(RecentActivity::fromPayment)
+                    .toList(),
+            communicationRepository.findMostRecent(limit).stream()
+                    .map(RecentActivity::fromCommunication)
+                    .toList(),
+            activityLogRepository.findMostRecent(limit)
+        );
+        return merge(sources, limit);
+    }
+
+    private List<RecentActivity> merge(List<List<RecentActivity>> sources, int limit) {
+        // Heads are ordered by date, then by source position so ties keep payments before communications before log entries
+        PriorityQueue<Head> heads = new PriorityQueue<>(
+            Comparator.comparing((Head head) -> head.current.getDate(), NEWEST_FIRST)
+                      .thenComparingInt(head -> head.source));
+
+        for (int i = 0; i < sources.size(); i++) {
+            Iterator<RecentActivity> iterator = sources.get(i).iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head(i, iterator));
+            }
+        }
+
+        List<RecentActivity> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.current);
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Head {
+        private final int source;
+        private final Iterator<RecentActivity> remaining;
+        private RecentActivity current;
+
+        private Head(int source, Iterator<RecentActivity> remaining) {
+            this.source = source;
+            this.remaining = remaining;
+            this.current = remaining.next();
+        }
+
+        private boolean advance() {
+            if (!remaining.hasNext()) {
+                return false;
+            }
+            current = remaining.next();
+            return true;
+        }
+    }
+}
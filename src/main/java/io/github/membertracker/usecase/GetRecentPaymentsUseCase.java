@@ -0,0 +1,25 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.Payment;
+import io.github.membertracker.domain.repository.PaymentRepository;
+
+import java.util.List;
+
+public class GetRecentPaymentsUseCase {
+
+    private final PaymentRepository paymentRepository;
+
+    public GetRecentPaymentsUseCase(PaymentRepository paymentRepository) {
+        this.paymentRepository = paymentRepository;
+    }
+
+    /**
+     * Retrieves the latest payments, newest first.
+     *
+     * @param limit the maximum number of payments to return
+     * @return the most recent payments ordered by payment date descending
+     */
+    public List<Payment> invoke(int limit) {
+        return paymentRepository.findMostRecent(limit);
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.MemberRevenue;
+import io.github.membertracker.domain.repository.PaymentRepository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public class GetRevenueByMemberUseCase {
+
+    private final PaymentRepository paymentRepository;
+
+    public GetRevenueByMemberUseCase(PaymentRepository paymentRepository) {
+        this.paymentRepository = paymentRepository;
+    }
+
+    /**
+     * Retrieves the members contributing the most revenue, aggregated by the database.
+     *
+     * @param from the first period to include
+     * @param to the last period to include
+     * @param limit the maximum number of members to return
+     * @return the top contributing members, highest total first
+     */
+    public List<MemberRevenue> invoke(YearMonth from, YearMonth to, int limit) {
+        return paymentRepository.findRevenueByMember(from, to, limit);
+    }
+}
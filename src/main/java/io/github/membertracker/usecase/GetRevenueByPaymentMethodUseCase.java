@@ -0,0 +1,27 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.PaymentMethodRevenue;
+import io.github.membertracker.domain.repository.PaymentRepository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public class GetRevenueByPaymentMethodUseCase {
+
+    private final PaymentRepository paymentRepository;
+
+    public GetRevenueByPaymentMethodUseCase(PaymentRepository paymentRepository) {
+        this.paymentRepository = paymentRepository;
+    }
+
+    /**
+     * Retrieves revenue totals per payment method, aggregated by the database.
+     *
+     * @param from the first period to include
+     * @param to the last period to include
+     * @return one entry per payment method used, highest total first
+     */
+    public List<PaymentMethodRevenue> invoke(YearMonth from, YearMonth to) {
+        return paymentRepository.findRevenueByPaymentMethod(from, to);
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.PeriodRevenue;
+import io.github.membertracker.domain.repository.PaymentRepository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public class GetRevenueByPeriodUseCase {
+
+    private final PaymentRepository paymentRepository;
+
+    public GetRevenueByPeriodUseCase(PaymentRepository paymentRepository) {
+        this.paymentRepository = paymentRepository;
+    }
+
+    /**
+     * Retrieves revenue totals per payment period, aggregated by the database.
+     *
+     * @param from the first period to include
+     * @param to the last period to include
+     * @return one entry per period that has payments, in period order
+     */
+    public List<PeriodRevenue> invoke(YearMonth from, YearMonth to) {
+        return paymentRepository.findRevenueByPeriod(from, to);
+    }
+}
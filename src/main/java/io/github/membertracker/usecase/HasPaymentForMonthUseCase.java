@@ -2,18 +2,28 @@ package io.github.membertracker.usecase;
 
 import io.github.membertracker.domain.model.Member;
 import io.github.membertracker.domain.repository.PaymentRepository;
+import io.github.membertracker.domain.stats.PaymentMonthIndex;
 
 import java.time.YearMonth;
 
 public class HasPaymentForMonthUseCase {
 
     private final PaymentRepository paymentRepository;
+    private final PaymentMonthIndex paymentMonthIndex;
 
-    public HasPaymentForMonthUseCase(PaymentRepository paymentRepository) {
+    public HasPaymentForMonthUseCase(PaymentRepository paymentRepository, PaymentMonthIndex paymentMonthIndex) {
         this.paymentRepository = paymentRepository;
+        this.paymentMonthIndex = paymentMonthIndex;
     }
 
+    /**
+     * Checks the in-memory paid-month index, falling back to the database until the
+     * index has been built.
+     */
     public boolean invoke(Member member, YearMonth month) {
+        if (paymentMonthIndex.isInitialized() && member.getId() != null) {
+            return paymentMonthIndex.hasPayment(member.getId(), month);
+        }
         return paymentRepository.existsByMemberAndPeriod(member, month);
     }
-}
\ No newline at end of file
+}
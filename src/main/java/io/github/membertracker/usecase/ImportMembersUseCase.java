@@ -0,0 +1,156 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.Member;
+import io.github.membertracker.domain.model.MemberImportError;
+import io.github.membertracker.domain.model.MemberImportResult;
+import io.github.membertracker.domain.model.MemberImportRow;
+import io.github.membertracker.domain.repository.MemberRepository;
+import io.github.membertracker.domain.stats.DashboardStatsTracker;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ImportMembersUseCase {
+
+    static final int BATCH_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final MemberRepository memberRepository;
+    private final Validator validator;
+    private final DashboardStatsTracker dashboardStatsTracker;
+
+    public ImportMembersUseCase(MemberRepository memberRepository, Validator validator,
+                                DashboardStatsTracker dashboardStatsTracker) {
+        this.memberRepository = memberRepository;
+        this.validator = validator;
+        this.dashboardStatsTracker = dashboardStatsTracker;
+    }
+
+    /**
+     * Imports new members from a stream of parsed rows.
+     * Rows are validated against the Member constraints as they arrive and valid ones are
+     * inserted in batches of {@value #BATCH_SIZE}; emails already stored or repeated within
+     * the stream are skipped. Earlier batches are in the database by the time a batch is
+     * checked, so only the current batch is held in memory.
+     *
+     * @param rows the rows read from the import file, in file order
+     * @return the counts of imported and skipped rows and the per-row errors
+     */
+    public MemberImportResult invoke(Iterator<MemberImportRow> rows) {
+        Progress progress = new Progress();
+        List<MemberImportRow> batch = new ArrayList<>(BATCH_SIZE);
+
+        while (rows.hasNext()) {
+            MemberImportRow row = rows.next();
+            progress.totalRows++;
+
+            if (!row.isParsed()) {
+                progress.reject(row.getLineNumber(), null, row.getError());
+                continue;
+            }
+
+            Member member = row.getMember();
+            applyDefaults(member);
+
+            Set<ConstraintViolation<Member>> violations = validator.validate(member);
+            if (!violations.isEmpty()) {
+                progress.reject(row.getLineNumber(), member.getEmail(), violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                flush(batch, progress);
+            }
+        }
+        flush(batch, progress);
+
+        return new MemberImportResult(progress.totalRows, progress.imported, progress.duplicates,
+                progress.errors, progress.errorsTruncated);
+    }
+
+    private void flush(List<MemberImportRow> batch, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // One indexed IN lookup per batch instead of a query per row
+        Set<String> existingEmails = memberRepository.findExistingEmails(batch.stream()
+                        .map(row -> row.getMember().getEmail())
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(ImportMembersUseCase::normalizeEmail)
+                .collect(Collectors.toSet());
+
+        // Emails repeated within the batch; repeats of earlier batches are caught by the lookup above
+        Set<String> batchEmails = new HashSet<>();
+        List<MemberImportRow> newRows = new ArrayList<>(batch.size());
+        for (MemberImportRow row : batch) {
+            String email = normalizeEmail(row.getMember().getEmail());
+            if (existingEmails.contains(email) || !batchEmails.add(email)) {
+                progress.duplicates++;
+            } else {
+                newRows.add(row);
+            }
+        }
+
+        List<Member> newMembers = newRows.stream()
+                .map(MemberImportRow::getMember)
+                .collect(Collectors.toList());
+        try {
+            memberRepository.insertAll(newMembers);
+            newMembers.forEach(dashboardStatsTracker::memberAdded);
+            progress.imported += newMembers.size();
+        } catch (RuntimeException e) {
+            // The batch is rolled back as a whole, e.g. when a concurrent write took one of its emails
+            for (MemberImportRow row : newRows) {
+                progress.reject(row.getLineNumber(), row.getMember().getEmail(),
+                        "Batch insert failed: " + e.getMessage());
+            }
+        }
+        batch.clear();
+    }
+
+    private static void applyDefaults(Member member) {
+        member.setId(null);
+        if (member.getJoinDate() == null) {
+            member.setJoinDate(LocalDate.now());
+        }
+        member.setActive(true);
+        member.setConsecutiveMonthsMissed(0);
+        if (member.getEmail() != null) {
+            member.setEmail(member.getEmail().trim());
+        }
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Progress {
+        private long totalRows;
+        private long imported;
+        private long duplicates;
+        private final List<MemberImportError> errors = new ArrayList<>();
+        private boolean errorsTruncated;
+
+        private void reject(long lineNumber, String email, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new MemberImportError(lineNumber, email, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.RefreshToken;
+import io.github.membertracker.domain.repository.RefreshTokenRepository;
+
+import java.time.LocalDateTime;
+
+public class IssueRefreshTokenUseCase {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshTtlSeconds;
+
+    public IssueRefreshTokenUseCase(RefreshTokenRepository refreshTokenRepository, long refreshTtlSeconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTtlSeconds = refreshTtlSeconds;
+    }
+
+    /**
+     * Registers the refresh token of a new login, starting a new token family.
+     */
+    public RefreshToken invoke(String email) {
+        RefreshToken token = RefreshToken.issue(email, LocalDateTime.now().plusSeconds(refreshTtlSeconds));
+        refreshTokenRepository.save(token);
+        return token;
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.membertracker.usecase;
 
+import io.github.membertracker.domain.cache.UserPrincipalCache;
 import io.github.membertracker.domain.exception.UserDomainException;
 import io.github.membertracker.domain.model.User;
 import io.github.membertracker.domain.repository.UserRepository;
@@ -7,14 +8,21 @@ import io.github.membertracker.domain.repository.UserRepository;
 public class LoadUserByUsernameUseCase {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public LoadUserByUsernameUseCase(UserRepository userRepository) {
+    public LoadUserByUsernameUseCase(UserRepository userRepository, UserPrincipalCache userPrincipalCache) {
         this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     public User invoke(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> UserDomainException.userNotFound(email));
+        User user = userPrincipalCache.get(email);
+        if (user == null) {
+            long stamp = userPrincipalCache.stamp();
+            user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> UserDomainException.userNotFound(email));
+            userPrincipalCache.put(user, stamp);
+        }
 
         if (!user.isEnabled()) {
             throw UserDomainException.userAlreadyDisabled(email);
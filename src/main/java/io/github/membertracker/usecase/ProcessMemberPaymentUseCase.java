@@ -7,6 +7,8 @@ import io.github.membertracker.domain.model.Payment;
 import io.github.membertracker.domain.policy.MembershipPolicy;
 import io.github.membertracker.domain.repository.MemberRepository;
 import io.github.membertracker.domain.repository.PaymentRepository;
+import io.github.membertracker.domain.stats.DashboardStatsTracker;
+import io.github.membertracker.domain.stats.PaymentMonthIndex;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -16,14 +18,20 @@ public class ProcessMemberPaymentUseCase {
     private final MemberRepository memberRepository;
     private final PaymentRepository paymentRepository;
     private final MembershipPolicy membershipPolicy;
+    private final DashboardStatsTracker dashboardStatsTracker;
+    private final PaymentMonthIndex paymentMonthIndex;
 
     public ProcessMemberPaymentUseCase(
             MemberRepository memberRepository,
             PaymentRepository paymentRepository,
-            MembershipPolicy membershipPolicy) {
+            MembershipPolicy membershipPolicy,
+            DashboardStatsTracker dashboardStatsTracker,
+            PaymentMonthIndex paymentMonthIndex) {
         this.memberRepository = memberRepository;
         this.paymentRepository = paymentRepository;
         this.membershipPolicy = membershipPolicy;
+        this.dashboardStatsTracker = dashboardStatsTracker;
+        this.paymentMonthIndex = paymentMonthIndex;
     }
 
     public Payment invoke(Long memberId, Double amount, YearMonth period,
@@ -43,22 +51,44 @@ public class ProcessMemberPaymentUseCase {
         payment.validateAmount();
         payment.validatePeriod();
         
+        // The index is per node and may miss payments recorded elsewhere, so writes ask the database
         if (paymentRepository.existsByMemberAndPeriod(member, period)) {
             throw MemberDomainException.duplicatePaymentForPeriod(
                 member.getName(), period.toString());
         }
 
+        boolean wasActive = member.isActive();
+        boolean wasOverdue = member.isPaymentOverdue();
+
         payment.markAsProcessed();
         member.recordPayment(payment);
 
+        paymentRepository.save(payment);
+        paymentMonthIndex.paymentRecorded(memberId, period);
+        settleMissedMonths(member, paymentMonthIndex);
+
         applyMembershipPolicies(member);
 
-        paymentRepository.save(payment);
         memberRepository.save(member);
 
+        dashboardStatsTracker.memberUpdated(wasActive, wasOverdue, member);
+        dashboardStatsTracker.paymentRecorded(payment);
+
         return payment;
     }
 
+    /**
+     * Recounts the missed months once a payment may have closed the most recent gap, so
+     * that paying an earlier month clears it from the counter. The counter never grows here.
+     */
+    static void settleMissedMonths(Member member, PaymentMonthIndex paymentMonthIndex) {
+        if (!paymentMonthIndex.isInitialized() || member.getConsecutiveMonthsMissed() == 0) {
+            return;
+        }
+        member.setConsecutiveMonthsMissed(paymentMonthIndex.consecutiveMonthsMissed(
+            member.getId(), YearMonth.now().minusMonths(1), member.getConsecutiveMonthsMissed()));
+    }
+
     private void applyMembershipPolicies(Member member) {
         LocalDate currentDate = LocalDate.now();
 
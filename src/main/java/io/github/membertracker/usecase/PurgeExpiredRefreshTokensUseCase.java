@@ -0,0 +1,23 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.repository.RefreshTokenRepository;
+
+import java.time.LocalDateTime;
+
+public class PurgeExpiredRefreshTokensUseCase {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    public PurgeExpiredRefreshTokensUseCase(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    /**
+     * Deletes registry entries whose tokens have expired; they can no longer be presented.
+     *
+     * @return the number of entries deleted
+     */
+    public int invoke() {
+        return refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.repository.PaymentRepository;
+import io.github.membertracker.domain.stats.PaymentMonthIndex;
+
+public class RebuildPaymentMonthIndexUseCase {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentMonthIndex paymentMonthIndex;
+
+    public RebuildPaymentMonthIndexUseCase(PaymentRepository paymentRepository,
+                                           PaymentMonthIndex paymentMonthIndex) {
+        this.paymentRepository = paymentRepository;
+        this.paymentMonthIndex = paymentMonthIndex;
+    }
+
+    /**
+     * Rebuilds the paid-month bitmaps from a single scan of the payment table and
+     * swaps them in, correcting any drift accumulated from incremental updates.
+     */
+    public void invoke() {
+        PaymentMonthIndex.Builder builder = paymentMonthIndex.startRebuild();
+        paymentRepository.forEachPaidPeriod(builder::add);
+        paymentMonthIndex.reset(builder);
+    }
+}
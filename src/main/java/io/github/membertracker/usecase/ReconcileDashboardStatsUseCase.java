@@ -0,0 +1,45 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.model.PeriodRevenue;
+import io.github.membertracker.domain.repository.MemberRepository;
+import io.github.membertracker.domain.repository.PaymentRepository;
+import io.github.membertracker.domain.stats.DashboardStatsTracker;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ReconcileDashboardStatsUseCase {
+
+    private final MemberRepository memberRepository;
+    private final PaymentRepository paymentRepository;
+    private final DashboardStatsTracker dashboardStatsTracker;
+
+    public ReconcileDashboardStatsUseCase(MemberRepository memberRepository,
+                                          PaymentRepository paymentRepository,
+                                          DashboardStatsTracker dashboardStatsTracker) {
+        this.memberRepository = memberRepository;
+        this.paymentRepository = paymentRepository;
+        this.dashboardStatsTracker = dashboardStatsTracker;
+    }
+
+    /**
+     * Recounts the dashboard totals with aggregate queries and replaces the running values,
+     * correcting any drift accumulated from incremental updates.
+     * Runs one reconciliation at a time, since each one tracks the deltas pushed while it counts.
+     */
+    public synchronized void invoke() {
+        dashboardStatsTracker.startReconcile();
+        Map<YearMonth, Double> revenueByPeriod = new HashMap<>();
+        for (PeriodRevenue revenue : paymentRepository.findRevenueByPeriod()) {
+            revenueByPeriod.put(revenue.getPeriod(), revenue.getTotal());
+        }
+
+        dashboardStatsTracker.reset(
+            memberRepository.count(),
+            memberRepository.countByActive(true),
+            memberRepository.countByConsecutiveMonthsMissedGreaterThanEqual(1),
+            revenueByPeriod
+        );
+    }
+}
@@ -4,15 +4,22 @@ import io.github.membertracker.domain.model.Member;
 import io.github.membertracker.domain.model.Payment;
 import io.github.membertracker.domain.repository.MemberRepository;
 import io.github.membertracker.domain.repository.PaymentRepository;
+import io.github.membertracker.domain.stats.DashboardStatsTracker;
+import io.github.membertracker.domain.stats.PaymentMonthIndex;
 
 public class RecordPaymentUseCase {
 
     private final PaymentRepository paymentRepository;
     private final MemberRepository memberRepository;
+    private final DashboardStatsTracker dashboardStatsTracker;
+    private final PaymentMonthIndex paymentMonthIndex;
 
-    public RecordPaymentUseCase(PaymentRepository paymentRepository, MemberRepository memberRepository) {
+    public RecordPaymentUseCase(PaymentRepository paymentRepository, MemberRepository memberRepository,
+                                DashboardStatsTracker dashboardStatsTracker, PaymentMonthIndex paymentMonthIndex) {
         this.paymentRepository = paymentRepository;
         this.memberRepository = memberRepository;
+        this.dashboardStatsTracker = dashboardStatsTracker;
+        this.paymentMonthIndex = paymentMonthIndex;
     }
 
     public Payment invoke(Payment payment) {
@@ -22,9 +29,21 @@ public class RecordPaymentUseCase {
         payment.validatePeriod();
         payment.markAsProcessed();
         
+        // The request carries its own copy of the member, so read the stored flags
+        Member stored = memberRepository.findById(member.getId()).orElse(member);
+        boolean wasActive = stored.isActive();
+        boolean wasOverdue = stored.isPaymentOverdue();
+
         member.recordPayment(payment);
 
-        memberRepository.save(member);
-        return paymentRepository.save(payment);
+        Payment savedPayment = paymentRepository.save(payment);
+        paymentMonthIndex.paymentRecorded(member.getId(), savedPayment.getPeriod());
+        ProcessMemberPaymentUseCase.settleMissedMonths(member, paymentMonthIndex);
+
+        Member savedMember = memberRepository.save(member);
+
+        dashboardStatsTracker.memberUpdated(wasActive, wasOverdue, savedMember);
+        dashboardStatsTracker.paymentRecorded(savedPayment);
+        return savedPayment;
     }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.repository.MessageDeliveryRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class ReleaseStaleDeliveryClaimsUseCase {
+
+    private final MessageDeliveryRepository messageDeliveryRepository;
+
+    public ReleaseStaleDeliveryClaimsUseCase(MessageDeliveryRepository messageDeliveryRepository) {
+        this.messageDeliveryRepository = messageDeliveryRepository;
+    }
+
+    /**
+     * Puts deliveries back in the outbox whose worker claimed them longer ago than the
+     * timeout without recording a result, e.g. because the node crashed mid-batch.
+     *
+     * @param claimTimeout how long a claim may stay open
+     * @return the number of deliveries released
+     */
+    public int invoke(Duration claimTimeout) {
+        return messageDeliveryRepository.releaseClaimsOlderThan(LocalDateTime.now().minus(claimTimeout));
+    }
+}
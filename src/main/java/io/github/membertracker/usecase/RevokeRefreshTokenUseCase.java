@@ -0,0 +1,26 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.repository.RefreshTokenRepository;
+
+import java.time.LocalDateTime;
+
+public class RevokeRefreshTokenUseCase {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    public RevokeRefreshTokenUseCase(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    /**
+     * Ends the session a refresh token belongs to by revoking its whole family (used on logout).
+     * Unknown token ids are ignored.
+     */
+    public void invoke(String tokenId) {
+        if (tokenId == null) {
+            return;
+        }
+        refreshTokenRepository.findById(tokenId)
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+}
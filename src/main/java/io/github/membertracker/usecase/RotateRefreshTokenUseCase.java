@@ -0,0 +1,49 @@
+package io.github.membertracker.usecase;
+
+import io.github.membertracker.domain.exception.UserDomainException;
+import io.github.membertracker.domain.model.RefreshToken;
+import io.github.membertracker.domain.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+
+public class RotateRefreshTokenUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RotateRefreshTokenUseCase.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshTtlSeconds;
+
+    public RotateRefreshTokenUseCase(RefreshTokenRepository refreshTokenRepository, long refreshTtlSeconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTtlSeconds = refreshTtlSeconds;
+    }
+
+    /**
+     * Replaces a presented refresh token with a new one in the same family.
+     * A token that was already rotated or revoked is treated as stolen: its whole family is
+     * revoked, which also logs out whoever holds the latest token.
+     *
+     * @param tokenId the {@code jti} of the presented token
+     * @param email the subject of the presented token
+     * @return the successor to hand to the client
+     */
+    public RefreshToken invoke(String tokenId, String email) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken token = tokenId == null ? null : refreshTokenRepository.findById(tokenId).orElse(null);
+        if (token == null || !token.getEmail().equals(email) || token.isExpired(now)) {
+            throw UserDomainException.invalidRefreshToken();
+        }
+
+        if (token.isRevoked() || !refreshTokenRepository.revokeIfActive(tokenId, now)) {
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            logger.warn("Refresh token reuse detected for {}; revoked {} tokens of the session", email, revoked);
+            throw UserDomainException.refreshTokenReused(email);
+        }
+
+        RefreshToken successor = token.successor(now.plusSeconds(refreshTtlSeconds));
+        refreshTokenRepository.save(successor);
+        return successor;
+    }
+}
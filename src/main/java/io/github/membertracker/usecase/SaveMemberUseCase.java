@@ -2,18 +2,24 @@ package io.github.membertracker.usecase;
 
 import io.github.membertracker.domain.model.Member;
 import io.github.membertracker.domain.repository.MemberRepository;
+import io.github.membertracker.domain.stats.DashboardStatsTracker;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 public class SaveMemberUseCase {
 
     private final MemberRepository memberRepository;
+    private final DashboardStatsTracker dashboardStatsTracker;
 
-    public SaveMemberUseCase(MemberRepository memberRepository) {
+    public SaveMemberUseCase(MemberRepository memberRepository, DashboardStatsTracker dashboardStatsTracker) {
         this.memberRepository = memberRepository;
+        this.dashboardStatsTracker = dashboardStatsTracker;
     }
 
     public Member invoke(Member member) {
+        Optional<Member> existing = Optional.empty();
+
         // Set default values for new members
         if (member.getId() == null) {
             if (member.getJoinDate() == null) {
@@ -23,8 +29,19 @@ public class SaveMemberUseCase {
             if (!member.isActive()) {
                 member.setActive(true);
             }
+        } else {
+            existing = memberRepository.findById(member.getId());
+        }
+
+        Member saved = memberRepository.save(member);
+
+        if (existing.isPresent()) {
+            Member before = existing.get();
+            dashboardStatsTracker.memberUpdated(before.isActive(), before.isPaymentOverdue(), saved);
+        } else {
+            dashboardStatsTracker.memberAdded(saved);
         }
 
-        return memberRepository.save(member);
+        return saved;
     }
-}
\ No newline at end of file
+}
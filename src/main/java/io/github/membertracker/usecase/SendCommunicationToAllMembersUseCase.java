@@ -5,14 +5,14 @@ import io.github.membertracker.domain.model.Member;
 import io.github.membertracker.domain.model.MessageDelivery;
 import io.github.membertracker.domain.repository.CommunicationRepository;
 import io.github.membertracker.domain.repository.MemberRepository;
-import io.github.membertracker.infrastructure.service.EmailService;
+import io.github.membertracker.domain.repository.MessageDeliveryRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Optional;
 
 public class SendCommunicationToAllMembersUseCase {
 
@@ -20,109 +20,111 @@ public class SendCommunicationToAllMembersUseCase {
     
     private final CommunicationRepository communicationRepository;
     private final MemberRepository memberRepository;
-    private final EmailService emailService;
-    private final ExecutorService executorService;
+    private final MessageDeliveryRepository messageDeliveryRepository;
+    private final int chunkSize;
 
+    /**
+     * @param chunkSize the most members resolved and deliveries inserted at a time
+     */
     public SendCommunicationToAllMembersUseCase(CommunicationRepository communicationRepository,
                                                MemberRepository memberRepository,
-                                               EmailService emailService) {
+                                               MessageDeliveryRepository messageDeliveryRepository,
+                                               int chunkSize) {
         this.communicationRepository = communicationRepository;
         this.memberRepository = memberRepository;
-        this.emailService = emailService;
-        this.executorService = Executors.newCachedThreadPool(); // Java 17 compatible
+        this.messageDeliveryRepository = messageDeliveryRepository;
+        this.chunkSize = chunkSize;
     }
 
     /**
-     * Sends a communication to all members.
+     * Sends a communication to all active members.
+     * One PENDING email delivery per member is queued in the delivery outbox; the outbox
+     * workers send them and record the results. The audience is walked by member id one
+     * chunk at a time, and each chunk's deliveries are inserted before the next is read, so
+     * memory use depends on the chunk size rather than on the number of members.
+     * The communication stays ENQUEUING, with the last member id queued recorded alongside
+     * each chunk, until the last chunk is committed; if queueing stops midway it can be
+     * finished with {@link #resume(Long)} without queueing anyone twice.
+     * The deliveries are not returned; they can be listed per communication.
      *
      * @param communication the communication to send
-     * @return the saved communication with delivery information
+     * @return the saved communication
      */
     public Communication invoke(Communication communication) {
         communication.setSentToAllMembers(true);
         communication.setSentDate(LocalDateTime.now());
+        communication.setEnqueueStatus(Communication.EnqueueStatus.ENQUEUING);
+        communication.setEnqueuedThroughMemberId(0);
 
-        List<Member> allMembers = memberRepository.findAll();
-        logger.info("Sending communication '{}' to {} members", communication.getTitle(), allMembers.size());
-
-        // First save the communication with pending deliveries
-        for (Member member : allMembers) {
-            MessageDelivery delivery = new MessageDelivery(
-                    member,
-                    communication,
-                    MessageDelivery.DeliveryChannel.EMAIL
-            );
-            delivery.setStatus(MessageDelivery.DeliveryStatus.PENDING);
-            communication.getDeliveries().add(delivery);
-        }
-        
         Communication savedCommunication = communicationRepository.save(communication);
-        
-        // Send emails asynchronously
-        sendEmailsAsync(savedCommunication, allMembers);
-        
+        enqueue(savedCommunication);
         return savedCommunication;
     }
-    
-    private void sendEmailsAsync(Communication communication, List<Member> members) {
-        executorService.submit(() -> {
-            for (Member member : members) {
-                try {
-                    // Use retry-enabled email sending with callback for logging
-                    boolean sent = emailService.sendSimpleEmailWithRetry(
-                        member,
-                        communication.getTitle(),
-                        communication.getMessageContent(),
-                        new EmailService.RetryCallback() {
-                            @Override
-                            public void onRetry(int currentAttempt, int maxAttempts) {
-                                logger.info("Attempt {}/{} to send email to {}", 
-                                    currentAttempt, maxAttempts, member.getEmail());
-                            }
-                        }
-                    );
-                    
-                    // Update delivery status
-                    if (sent) {
-                        updateDeliveryStatus(communication, member, 
-                            MessageDelivery.DeliveryStatus.SENT, 
-                            null);
-                        logger.info("Email sent successfully to {}", member.getEmail());
-                    } else {
-                        updateDeliveryStatus(communication, member, 
-                            MessageDelivery.DeliveryStatus.FAILED, 
-                            "Failed after max retry attempts");
-                        logger.error("Email failed after retries for {}", member.getEmail());
-                    }
-                    
-                    // Small delay to avoid overwhelming SMTP server
-                    Thread.sleep(100);
-                } catch (Exception e) {
-                    logger.error("Error sending email to {}: {}", member.getEmail(), e.getMessage(), e);
-                    updateDeliveryStatus(communication, member, 
-                        MessageDelivery.DeliveryStatus.FAILED, 
-                        "Exception: " + e.getMessage()
-                    );
-                }
-            }
-            logger.info("Finished sending communication '{}' to all members", communication.getTitle());
-        });
+
+    /**
+     * Finishes queueing a communication whose send-to-all was interrupted, starting after
+     * the last member it was queued for. Does nothing if it is already fully queued.
+     *
+     * @param communicationId the communication to resume
+     * @return the communication, or empty if there is none with that id
+     */
+    public Optional<Communication> resume(Long communicationId) {
+        Optional<Communication> communication = communicationRepository.findById(communicationId);
+        communication
+                .filter(c -> c.getEnqueueStatus() == Communication.EnqueueStatus.ENQUEUING)
+                .ifPresent(this::enqueue);
+        return communication;
     }
-    
-    private void updateDeliveryStatus(Communication communication, Member member, 
-                                     MessageDelivery.DeliveryStatus status, String notes) {
-        communication.getDeliveries().stream()
-            .filter(d -> d.getRecipient().getId().equals(member.getId()))
-            .findFirst()
-            .ifPresent(delivery -> {
-                delivery.setStatus(status);
-                delivery.setDeliveryTime(LocalDateTime.now());
-                if (notes != null) {
-                    delivery.setResponseNotes(notes);
-                }
-            });
-        
-        // Save updated delivery status
-        communicationRepository.save(communication);
+
+    /**
+     * Resumes every communication left ENQUEUING, e.g. by a node that stopped while queueing.
+     * Safe to run while another node is still queueing one of them: the cursor check lets
+     * only one caller queue each chunk.
+     */
+    public void resumeUnfinished() {
+        for (Communication communication : communicationRepository.findByEnqueueStatus(Communication.EnqueueStatus.ENQUEUING)) {
+            enqueue(communication);
+        }
+    }
+
+    private void enqueue(Communication savedCommunication) {
+        long afterId = savedCommunication.getEnqueuedThroughMemberId();
+        int recipients = 0;
+        while (true) {
+            List<Long> memberIds = memberRepository.findActiveIdsAfter(afterId, chunkSize);
+            if (memberIds.isEmpty()) {
+                break;
+            }
+
+            List<MessageDelivery> deliveries = new ArrayList<>(memberIds.size());
+            for (Long memberId : memberIds) {
+                // The outbox only needs the recipient's id; workers load the member when sending
+                Member recipient = new Member();
+                recipient.setId(memberId);
+                deliveries.add(new MessageDelivery(
+                        recipient,
+                        savedCommunication,
+                        MessageDelivery.DeliveryChannel.EMAIL
+                ));
+            }
+            long throughId = memberIds.get(memberIds.size() - 1);
+            if (!messageDeliveryRepository.saveAllAndAdvanceEnqueueCursor(savedCommunication.getId(), afterId, throughId,
+                    deliveries)) {
+                logger.info("Communication '{}' is being queued by another caller; stopping after {} members",
+                        savedCommunication.getTitle(), recipients);
+                return;
+            }
+            recipients += memberIds.size();
+            afterId = throughId;
+
+            if (memberIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        communicationRepository.markEnqueued(savedCommunication.getId());
+        savedCommunication.setEnqueueStatus(Communication.EnqueueStatus.ENQUEUED);
+        savedCommunication.setEnqueuedThroughMemberId(afterId);
+        logger.info("Queued communication '{}' for {} active members", savedCommunication.getTitle(), recipients);
     }
 }
@@ -1,36 +1,73 @@
 package io.github.membertracker.usecase;
 
-import io.github.membertracker.domain.model.Member;
+import io.github.membertracker.domain.model.ArrearsRolloverResult;
+import io.github.membertracker.domain.repository.JobStateRepository;
 import io.github.membertracker.domain.repository.MemberRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 public class UpdateMissingPaymentCountersUseCase {
 
+    static final String JOB_NAME = "arrears-rollover";
+
     private final MemberRepository memberRepository;
-    private final HasPaymentForMonthUseCase hasPaymentForMonthUseCase;
+    private final JobStateRepository jobStateRepository;
+    private final boolean catchUp;
+    private final int maxCatchUpMonths;
 
+    /**
+     * @param catchUp whether periods missed while the job was not running are applied too;
+     *                otherwise only the previous month is, and the skipped months are not counted
+     * @param maxCatchUpMonths the most periods a single run applies in catch-up mode
+     */
     public UpdateMissingPaymentCountersUseCase(MemberRepository memberRepository,
-                                              HasPaymentForMonthUseCase hasPaymentForMonthUseCase) {
+                                              JobStateRepository jobStateRepository,
+                                              boolean catchUp,
+                                              int maxCatchUpMonths) {
         this.memberRepository = memberRepository;
-        this.hasPaymentForMonthUseCase = hasPaymentForMonthUseCase;
+        this.jobStateRepository = jobStateRepository;
+        this.catchUp = catchUp;
+        this.maxCatchUpMonths = maxCatchUpMonths;
     }
 
     /**
-     * Updates the consecutive months missed counter for all members.
-     * Increments the counter for members who haven't made a payment for the previous month.
+     * Rolls the consecutive months missed counters forward to the previous month.
+     * Every period after the stored watermark is applied exactly once: members without a
+     * payment for it or any later period get their counter incremented, and the watermark
+     * moves forward in the same transaction. Running the job again for an already processed period does nothing.
+     *
+     * @return the periods applied and the number of counters incremented
      */
-    public void invoke() {
-        YearMonth currentMonth = YearMonth.now();
-        YearMonth previousMonth = currentMonth.minusMonths(1);
-        List<Member> allMembers = memberRepository.findAll();
-
-        for (Member member : allMembers) {
-            if (!hasPaymentForMonthUseCase.invoke(member, previousMonth)) {
-                member.setConsecutiveMonthsMissed(member.getConsecutiveMonthsMissed() + 1);
-                memberRepository.save(member);
+    @Transactional
+    public ArrearsRolloverResult invoke() {
+        YearMonth target = YearMonth.now().minusMonths(1);
+        Optional<YearMonth> watermark = jobStateRepository.lockLastProcessedPeriod(JOB_NAME);
+
+        if (watermark.isPresent() && !watermark.get().isBefore(target)) {
+            return new ArrearsRolloverResult(List.of(), 0);
+        }
+
+        YearMonth first = target;
+        if (catchUp && watermark.isPresent()) {
+            first = watermark.get().plusMonths(1);
+            YearMonth earliest = target.minusMonths(maxCatchUpMonths - 1L);
+            if (first.isBefore(earliest)) {
+                first = earliest;
             }
         }
+
+        List<YearMonth> processed = new ArrayList<>();
+        int membersUpdated = 0;
+        for (YearMonth period = first; !period.isAfter(target); period = period.plusMonths(1)) {
+            membersUpdated += memberRepository.incrementMonthsMissedWithoutPaymentFor(period);
+            processed.add(period);
+        }
+
+        jobStateRepository.saveLastProcessedPeriod(JOB_NAME, target);
+        return new ArrearsRolloverResult(processed, membersUpdated);
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package io.github.membertracker.usecase;
 
+import io.github.membertracker.domain.cache.UserPrincipalCache;
 import io.github.membertracker.domain.exception.UserDomainException;
 import io.github.membertracker.domain.model.User;
 import io.github.membertracker.domain.repository.UserRepository;
@@ -7,9 +8,11 @@ import io.github.membertracker.domain.repository.UserRepository;
 public class UpdateUserProfileUseCase {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public UpdateUserProfileUseCase(UserRepository userRepository) {
+    public UpdateUserProfileUseCase(UserRepository userRepository, UserPrincipalCache userPrincipalCache) {
         this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     public User execute(Long userId, String firstName, String lastName, String phone, String bio) {
@@ -18,6 +21,8 @@ public class UpdateUserProfileUseCase {
 
         user.updateProfile(firstName, lastName, phone, bio);
 
-        return userRepository.update(user);
+        User updated = userRepository.update(user);
+        userPrincipalCache.invalidate(user.getUsername());
+        return updated;
     }
 }
@@ -1,5 +1,8 @@
 package io.github.membertracker.utils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Utility class for CSV operations.
  */
@@ -24,4 +27,45 @@ public final class CsvUtils {
         }
         return value;
     }
+
+    /**
+     * Splits one CSV line into its field values, undoing the quoting applied by {@link #escapeCsv(String)}.
+     * Quoted fields spanning several lines are not supported.
+     *
+     * @param line the CSV line without its line terminator
+     * @return the unescaped field values
+     * @throws IllegalArgumentException if a quoted field is not closed
+     */
+    public static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
 }
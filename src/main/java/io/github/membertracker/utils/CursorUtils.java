@@ -0,0 +1,45 @@
+package io.github.membertracker.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utility class for the opaque continuation tokens used by keyset pagination.
+ * A token is the URL-safe Base64 form of the sort key values of the last row on a page.
+ */
+public final class CursorUtils {
+
+    private static final String SEPARATOR = "\u001F";
+
+    private CursorUtils() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Encodes the given key parts into an opaque cursor token.
+     *
+     * @param parts the key values, in order
+     * @return the cursor token
+     */
+    public static String encode(String... parts) {
+        String joined = String.join(SEPARATOR, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor token back into its key parts.
+     *
+     * @param cursor the cursor token
+     * @param expectedParts the number of key parts the caller expects
+     * @return the key values, in order
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = joined.split(SEPARATOR, -1);
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException("Cursor has " + parts.length + " parts, expected " + expectedParts);
+        }
+        return parts;
+    }
+}
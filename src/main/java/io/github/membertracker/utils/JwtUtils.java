@@ -10,59 +10,52 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
 public final class JwtUtils {
 
+    /**
+     * Claim telling access and refresh tokens apart; both are signed with the same key.
+     */
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private JwtUtils() {
         // Utility class - prevent instantiation
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
     }
 
-    public static String extractUsername(String token, String jwtSecret) {
-        return extractClaim(token, jwtSecret, Claims::getSubject);
-    }
-
-    public static Date extractExpiration(String token, String jwtSecret) {
-        return extractClaim(token, jwtSecret, Claims::getExpiration);
-    }
-
-    public static <T> T extractClaim(String token, String jwtSecret, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token, jwtSecret);
-        return claimsResolver.apply(claims);
-    }
-
-    private static Claims extractAllClaims(String token, String jwtSecret) {
-        SecretKey secretKey = getSecretKey(jwtSecret);
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private static boolean isTokenExpired(String token, String jwtSecret) {
-        return extractExpiration(token, jwtSecret).before(new Date());
+    public static String generateAccessToken(UserDetails userDetails, String jwtSecret, long accessTtlSeconds) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
+        return createToken(claims, UUID.randomUUID().toString(), userDetails.getUsername(), accessTtlSeconds, jwtSecret);
     }
 
-    private static boolean isTokenValid(String token, String jwtSecret) {
-        return !isTokenExpired(token, jwtSecret);
+    /**
+     * @param tokenId the id under which the token is registered, sent as the {@code jti} claim
+     */
+    public static String generateRefreshToken(UserDetails userDetails, String tokenId, String jwtSecret,
+                                              long refreshTtlSeconds) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+        return createToken(claims, tokenId, userDetails.getUsername(), refreshTtlSeconds, jwtSecret);
     }
 
-    public static String generateAccessToken(UserDetails userDetails, String jwtSecret, long accessTtlSeconds) {
-        Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername(), accessTtlSeconds, jwtSecret);
+    public static boolean isAccessToken(Claims claims) {
+        return claims != null && ACCESS_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
     }
 
-    public static String generateRefreshToken(UserDetails userDetails, String jwtSecret, long refreshTtlSeconds) {
-        Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername(), refreshTtlSeconds, jwtSecret);
+    public static boolean isRefreshToken(Claims claims) {
+        return claims != null && REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
     }
 
-    private static String createToken(Map<String, Object> claims, String subject, long ttlSeconds, String jwtSecret) {
+    private static String createToken(Map<String, Object> claims, String tokenId, String subject, long ttlSeconds,
+                                      String jwtSecret) {
         SecretKey secretKey = getSecretKey(jwtSecret);
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(tokenId)
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + ttlSeconds * 1000))
@@ -70,25 +63,7 @@ public final class JwtUtils {
                 .compact();
     }
 
-    public static boolean validateToken(String token, UserDetails userDetails, String jwtSecret) {
-        final String username = extractUsername(token, jwtSecret);
-        return (username.equals(userDetails.getUsername()) && isTokenValid(token, jwtSecret));
-    }
-
-    public static boolean validateToken(String token, String jwtSecret) {
-        try {
-            SecretKey secretKey = getSecretKey(jwtSecret);
-            Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token);
-            return isTokenValid(token, jwtSecret);
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    private static SecretKey getSecretKey(String jwtSecret) {
+    static SecretKey getSecretKey(String jwtSecret) {
         return Keys.hmacShaKeyFor(
             (jwtSecret != null ? jwtSecret : "defaultSecretKeyForDevelopmentOnlyChangeInProduction")
                 .getBytes()
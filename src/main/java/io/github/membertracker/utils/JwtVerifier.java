@@ -0,0 +1,85 @@
+package io.github.membertracker.utils;
+
+import io.github.membertracker.infrastructure.config.AuthProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Verifies JWTs with a parser and key built once at startup.
+ * Each token is parsed a single time; tokens that verified recently are remembered by their
+ * SHA-256 digest (never the raw token) until they expire, so hot tokens skip the HMAC check.
+ */
+@Component
+public class JwtVerifier {
+
+    private final JwtParser parser;
+    private final int cacheSize;
+    private final Map<String, Claims> verified;
+
+    public JwtVerifier(AuthProperties authProperties) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(JwtUtils.getSecretKey(authProperties.getJwtSecret()))
+                .build();
+        this.cacheSize = authProperties.getVerifiedTokenCacheSize();
+        this.verified = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the claims of a correctly signed, unexpired token, or null if the token is invalid.
+     */
+    public Claims verify(String token) {
+        String digest = digest(token);
+        Claims cached;
+        synchronized (verified) {
+            cached = verified.get(digest);
+        }
+        if (cached != null) {
+            if (cached.getExpiration().after(new Date())) {
+                return cached;
+            }
+            synchronized (verified) {
+                verified.remove(digest);
+            }
+            return null;
+        }
+
+        Claims claims;
+        try {
+            // Rejects bad signatures and expired tokens
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        if (claims.getExpiration() != null && cacheSize > 0) {
+            synchronized (verified) {
+                verified.put(digest, claims);
+            }
+        }
+        return claims;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+-- liquibase formatted sql
+
+-- changeset aman:add-recent-activity-indexes
+-- Supports the dashboard's "latest N communications" query (ORDER BY created_date DESC LIMIT N)
+CREATE INDEX idx_communication_created_date ON communication(created_date);
@@ -0,0 +1,11 @@
+-- liquibase formatted sql
+
+-- changeset aman:add-member-listing-indexes
+-- Keyset pagination of the member listing: one (sort column, id) index per ordering,
+-- plus an (active, sort column, id) variant for the active/inactive filters
+CREATE INDEX idx_member_name_id ON member(name, id);
+CREATE INDEX idx_member_active_name_id ON member(active, name, id);
+CREATE INDEX idx_member_join_date_id ON member(join_date, id);
+CREATE INDEX idx_member_active_join_date_id ON member(active, join_date, id);
+CREATE INDEX idx_member_months_missed_id ON member(consecutive_months_missed, id);
+CREATE INDEX idx_member_active_months_missed_id ON member(active, consecutive_months_missed, id);
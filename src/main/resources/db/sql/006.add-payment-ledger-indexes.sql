@@ -0,0 +1,9 @@
+-- liquibase formatted sql
+
+-- changeset aman:add-payment-ledger-indexes
+-- Keyset pagination of the payments ledger (ORDER BY payment_date DESC, id DESC)
+-- and its most common filters: a member's history, optionally narrowed by period or method
+CREATE INDEX idx_payment_date_id ON payment(payment_date, id);
+CREATE INDEX idx_payment_member_period ON payment(member_id, period);
+CREATE INDEX idx_payment_member_date_id ON payment(member_id, payment_date, id);
+CREATE INDEX idx_payment_method_date_id ON payment(payment_method, payment_date, id);
@@ -0,0 +1,15 @@
+-- liquibase formatted sql
+
+-- changeset aman:add-job-state
+-- Watermarks of periodic jobs, so each run only processes what the previous runs have not
+CREATE TABLE job_state (
+    job_name VARCHAR(100) PRIMARY KEY,
+    last_processed_period VARCHAR(7), -- Format: YYYY-MM
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- Seed the row so concurrent runs can serialize on it with SELECT ... FOR UPDATE.
+-- The previous daily job always counted the month before the current one, so that month is
+-- already reflected in the counters and must not be applied again by the first rollover
+INSERT INTO job_state (job_name, last_processed_period)
+VALUES ('arrears-rollover', DATE_FORMAT(CURRENT_DATE - INTERVAL 1 MONTH, '%Y-%m'));
@@ -0,0 +1,9 @@
+-- liquibase formatted sql
+
+-- changeset aman:add-delivery-outbox
+-- message_delivery doubles as a durable outbox: workers claim PENDING rows with
+-- SELECT ... FOR UPDATE SKIP LOCKED and mark them SENDING until the result is written
+ALTER TABLE message_delivery ADD COLUMN claimed_at TIMESTAMP NULL;
+
+-- Claim query (status = 'PENDING' ORDER BY id) and stale-claim recovery (status = 'SENDING' AND claimed_at < ?)
+CREATE INDEX idx_delivery_status_claimed ON message_delivery(status, claimed_at);
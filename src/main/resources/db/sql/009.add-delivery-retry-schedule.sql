@@ -0,0 +1,10 @@
+-- liquibase formatted sql
+
+-- changeset aman:add-delivery-retry-schedule
+-- Failed sends go back to PENDING with a next_attempt_at instead of being retried in the
+-- worker thread; the claim query skips them until they are due
+ALTER TABLE message_delivery ADD COLUMN attempt_count INT NOT NULL DEFAULT 0;
+ALTER TABLE message_delivery ADD COLUMN next_attempt_at TIMESTAMP NULL;
+
+-- Claim query (status = 'PENDING' AND (next_attempt_at IS NULL OR next_attempt_at <= ?))
+CREATE INDEX idx_delivery_status_next_attempt ON message_delivery(status, next_attempt_at);
@@ -0,0 +1,12 @@
+-- liquibase formatted sql
+
+-- changeset aman:add-message-delivery-id-sequence
+-- Backing table for the pooled message_delivery id generator (MySQL has no sequences).
+-- Hibernate reads next_val as the top of a block of 50 ids and advances it by 50, so it is
+-- seeded 50 past the current maximum to hand out MAX(id) + 2 .. MAX(id) + 51 first.
+CREATE TABLE message_delivery_seq (
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO message_delivery_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM message_delivery;
@@ -0,0 +1,25 @@
+-- liquibase formatted sql
+
+-- changeset aman:add-entity-id-sequences
+-- Backing tables for the pooled id generators of the remaining entities, seeded the same
+-- way as message_delivery_seq: one allocation block past the current maximum id.
+-- member allocates 1000 ids at a time, the others 50.
+CREATE TABLE member_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO member_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1001 FROM member;
+
+CREATE TABLE payment_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO payment_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM payment;
+
+CREATE TABLE communication_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO communication_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM communication;
+
+CREATE TABLE users_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO users_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM users;
@@ -0,0 +1,15 @@
+-- liquibase formatted sql
+
+-- changeset aman:add-refresh-token
+-- Registry of issued refresh tokens, keyed by the JWT's jti. Each login starts a family;
+-- refreshes rotate within it and a replayed (already revoked) token revokes the family.
+CREATE TABLE refresh_token (
+    token_id CHAR(36) PRIMARY KEY,
+    family_id CHAR(36) NOT NULL,
+    user_email VARCHAR(255) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NULL
+);
+
+CREATE INDEX idx_refresh_token_family ON refresh_token(family_id);
+CREATE INDEX idx_refresh_token_expires ON refresh_token(expires_at);
@@ -0,0 +1,6 @@
+-- liquibase formatted sql
+
+-- changeset aman:add-activity-log-feed-index
+-- The dashboard's recent activity feed reads activity_log newest first; background jobs (such as
+-- automatic deactivation) add rows to the table created in 001, keyed by entity_type/entity_id.
+CREATE INDEX idx_activity_log_created_at ON activity_log(created_at, id);
@@ -0,0 +1,5 @@
+-- liquibase formatted sql
+
+-- changeset aman:add-member-active-id-index
+-- Covering index for walking the active members in id order (send-to-all audience resolution)
+CREATE INDEX idx_member_active_id ON member(active, id);
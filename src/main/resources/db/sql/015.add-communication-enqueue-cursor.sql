@@ -0,0 +1,9 @@
+-- liquibase formatted sql
+
+-- changeset aman:add-communication-enqueue-cursor
+-- Progress of queueing a send-to-all communication: ENQUEUING until the last chunk of deliveries
+-- is committed, with the last member id queued so an interrupted walk can resume after it
+ALTER TABLE communication ADD COLUMN enqueue_status VARCHAR(20) NULL;
+ALTER TABLE communication ADD COLUMN enqueued_through_member_id BIGINT NOT NULL DEFAULT 0;
+
+UPDATE communication SET enqueue_status = 'ENQUEUED' WHERE sent_to_all_members = TRUE;
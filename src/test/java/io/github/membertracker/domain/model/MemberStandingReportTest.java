@@ -0,0 +1,108 @@
+package io.github.membertracker.domain.model;
+
+import io.github.membertracker.domain.enumeration.MemberStanding;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MemberStandingReportTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 15);
+
+    @Test
+    void classifiesEachMemberByFirstMatchingStanding() {
+        MemberStandingReport.Builder builder = new MemberStandingReport.Builder(TODAY, 5);
+        builder.add(member(1L, "Inactive", false, 4), false, true, true, true, -30);
+        builder.add(member(2L, "Lapsed", true, 3), false, true, true, false, -20);
+        builder.add(member(3L, "Behind", true, 2), false, true, false, false, -10);
+        builder.add(member(4L, "Due", true, 0), true, true, false, false, 3);
+        builder.add(member(5L, "Paid", true, 0), true, false, false, false, 20);
+
+        MemberStandingReport report = builder.build();
+
+        assertEquals(TODAY, report.getEvaluatedOn());
+        assertEquals(5, report.getSize());
+        assertArrayEquals(new long[] {1L, 2L, 3L, 4L, 5L}, report.getMemberIds());
+        assertArrayEquals(new String[] {"Inactive", "Lapsed", "Behind", "Due", "Paid"}, report.getMemberNames());
+        assertArrayEquals(new String[] {"inactive", "deactivationDue", "atRisk", "reminderDue", "good"},
+            report.getStandings());
+        assertArrayEquals(new int[] {-30, -20, -10, 3, 20}, report.getDaysUntilPaymentDue());
+        assertArrayEquals(new int[] {4, 3, 2, 0, 0}, report.getConsecutiveMonthsMissed());
+        assertArrayEquals(new boolean[] {false, false, false, true, true}, report.getGoodStanding());
+        assertArrayEquals(new boolean[] {true, true, true, true, false}, report.getReminderDue());
+        assertArrayEquals(new boolean[] {true, true, false, false, false}, report.getDeactivationDue());
+        assertArrayEquals(new boolean[] {true, false, false, false, false}, report.getCanReactivate());
+    }
+
+    @Test
+    void countsEveryStanding() {
+        MemberStandingReport.Builder builder = new MemberStandingReport.Builder(TODAY, 0);
+        builder.add(member(1L, "A", true, 0), true, false, false, false, 10);
+        builder.add(member(2L, "B", true, 0), true, false, false, false, 10);
+        builder.add(member(3L, "C", false, 5), false, false, false, true, -40);
+
+        Map<String, Integer> counts = builder.build().getCounts();
+
+        assertEquals(Map.of("inactive", 1, "deactivationDue", 0, "atRisk", 0, "reminderDue", 0, "good", 2), counts);
+    }
+
+    @Test
+    void growsPastExpectedSize() {
+        MemberStandingReport.Builder builder = new MemberStandingReport.Builder(TODAY, 1);
+        for (long id = 1; id <= 100; id++) {
+            builder.add(member(id, "Member " + id, true, 0), true, false, false, false, 10);
+        }
+
+        MemberStandingReport report = builder.build();
+
+        assertEquals(100, report.getSize());
+        assertEquals(100, report.getMemberIds().length);
+        assertEquals(100L, report.getMemberIds()[99]);
+        assertEquals(100, report.getCounts().get("good"));
+    }
+
+    @Test
+    void filterKeepsSelectedStandingsAndFullCounts() {
+        MemberStandingReport.Builder builder = new MemberStandingReport.Builder(TODAY, 4);
+        builder.add(member(1L, "Inactive", false, 4), false, false, false, true, -30);
+        builder.add(member(2L, "Behind", true, 2), false, true, false, false, -10);
+        builder.add(member(3L, "Paid", true, 0), true, false, false, false, 20);
+        builder.add(member(4L, "Also behind", true, 1), false, true, false, false, -5);
+        MemberStandingReport report = builder.build();
+
+        MemberStandingReport filtered = report.filter(EnumSet.of(MemberStanding.AT_RISK, MemberStanding.INACTIVE));
+
+        assertEquals(3, filtered.getSize());
+        assertArrayEquals(new long[] {1L, 2L, 4L}, filtered.getMemberIds());
+        assertArrayEquals(new String[] {"inactive", "atRisk", "atRisk"}, filtered.getStandings());
+        assertArrayEquals(new int[] {-30, -10, -5}, filtered.getDaysUntilPaymentDue());
+        assertArrayEquals(new boolean[] {true, false, false}, filtered.getCanReactivate());
+        assertEquals(report.getCounts(), filtered.getCounts());
+    }
+
+    @Test
+    void filterWithNoStandingsIsEmpty() {
+        MemberStandingReport.Builder builder = new MemberStandingReport.Builder(TODAY, 1);
+        builder.add(member(1L, "Paid", true, 0), true, false, false, false, 20);
+
+        MemberStandingReport filtered = builder.build().filter(EnumSet.noneOf(MemberStanding.class));
+
+        assertEquals(0, filtered.getSize());
+        assertEquals(0, filtered.getMemberIds().length);
+        assertEquals(1, filtered.getCounts().get("good"));
+    }
+
+    private static Member member(Long id, String name, boolean active, int monthsMissed) {
+        Member member = new Member();
+        member.setId(id);
+        member.setName(name);
+        member.setActive(active);
+        member.setConsecutiveMonthsMissed(monthsMissed);
+        return member;
+    }
+}
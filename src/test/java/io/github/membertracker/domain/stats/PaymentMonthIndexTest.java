@@ -0,0 +1,124 @@
+package io.github.membertracker.domain.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PaymentMonthIndexTest {
+
+    private static final Long MEMBER = 7L;
+
+    @Test
+    void isNotInitializedUntilFirstRebuild() {
+        PaymentMonthIndex index = new PaymentMonthIndex();
+        assertFalse(index.isInitialized());
+
+        index.reset(index.startRebuild());
+
+        assertTrue(index.isInitialized());
+    }
+
+    @Test
+    void findsRecordedPayments() {
+        PaymentMonthIndex index = new PaymentMonthIndex();
+        index.paymentRecorded(MEMBER, YearMonth.of(2024, 3));
+
+        assertTrue(index.hasPayment(MEMBER, YearMonth.of(2024, 3)));
+        assertFalse(index.hasPayment(MEMBER, YearMonth.of(2024, 4)));
+        assertFalse(index.hasPayment(8L, YearMonth.of(2024, 3)));
+    }
+
+    @Test
+    void keepsMonthsAcrossWordBoundaries() {
+        PaymentMonthIndex index = new PaymentMonthIndex();
+        YearMonth first = YearMonth.of(2020, 1);
+        // Spans several 64-month words, growing both forwards and backwards from the first bit
+        index.paymentRecorded(MEMBER, first);
+        index.paymentRecorded(MEMBER, first.plusMonths(63));
+        index.paymentRecorded(MEMBER, first.plusMonths(64));
+        index.paymentRecorded(MEMBER, first.plusMonths(200));
+        index.paymentRecorded(MEMBER, first.minusMonths(1));
+        index.paymentRecorded(MEMBER, first.minusMonths(130));
+
+        assertTrue(index.hasPayment(MEMBER, first));
+        assertTrue(index.hasPayment(MEMBER, first.plusMonths(63)));
+        assertTrue(index.hasPayment(MEMBER, first.plusMonths(64)));
+        assertTrue(index.hasPayment(MEMBER, first.plusMonths(200)));
+        assertTrue(index.hasPayment(MEMBER, first.minusMonths(1)));
+        assertTrue(index.hasPayment(MEMBER, first.minusMonths(130)));
+        assertFalse(index.hasPayment(MEMBER, first.plusMonths(1)));
+        assertFalse(index.hasPayment(MEMBER, first.plusMonths(65)));
+        assertFalse(index.hasPayment(MEMBER, first.minusMonths(2)));
+        assertFalse(index.hasPayment(MEMBER, first.plusMonths(500)));
+    }
+
+    @Test
+    void countsMissedMonthsBackToLastPayment() {
+        PaymentMonthIndex index = new PaymentMonthIndex();
+        index.paymentRecorded(MEMBER, YearMonth.of(2024, 1));
+
+        assertEquals(0, index.consecutiveMonthsMissed(MEMBER, YearMonth.of(2024, 1), 12));
+        assertEquals(3, index.consecutiveMonthsMissed(MEMBER, YearMonth.of(2024, 4), 12));
+    }
+
+    @Test
+    void countsMissedMonthsAcrossWordBoundaries() {
+        PaymentMonthIndex index = new PaymentMonthIndex();
+        YearMonth paid = YearMonth.of(2020, 1);
+        index.paymentRecorded(MEMBER, paid);
+
+        assertEquals(63, index.consecutiveMonthsMissed(MEMBER, paid.plusMonths(63), 1000));
+        assertEquals(64, index.consecutiveMonthsMissed(MEMBER, paid.plusMonths(64), 1000));
+        assertEquals(150, index.consecutiveMonthsMissed(MEMBER, paid.plusMonths(150), 1000));
+    }
+
+    @Test
+    void ignoresPaymentsAfterTheMonthChecked() {
+        PaymentMonthIndex index = new PaymentMonthIndex();
+        index.paymentRecorded(MEMBER, YearMonth.of(2023, 1));
+        index.paymentRecorded(MEMBER, YearMonth.of(2024, 6));
+
+        assertEquals(4, index.consecutiveMonthsMissed(MEMBER, YearMonth.of(2023, 5), 12));
+    }
+
+    @Test
+    void capsMissedMonthsAtLimit() {
+        PaymentMonthIndex index = new PaymentMonthIndex();
+        index.paymentRecorded(MEMBER, YearMonth.of(2020, 1));
+
+        assertEquals(12, index.consecutiveMonthsMissed(MEMBER, YearMonth.of(2024, 1), 12));
+        assertEquals(12, index.consecutiveMonthsMissed(8L, YearMonth.of(2024, 1), 12));
+        assertEquals(12, index.consecutiveMonthsMissed(MEMBER, YearMonth.of(2019, 12), 12));
+        assertEquals(0, index.consecutiveMonthsMissed(MEMBER, YearMonth.of(2024, 1), 0));
+    }
+
+    @Test
+    void forgetsRemovedMembers() {
+        PaymentMonthIndex index = new PaymentMonthIndex();
+        index.paymentRecorded(MEMBER, YearMonth.of(2024, 3));
+
+        index.memberRemoved(MEMBER);
+
+        assertFalse(index.hasPayment(MEMBER, YearMonth.of(2024, 3)));
+    }
+
+    @Test
+    void rebuildReplacesIndexAndKeepsPaymentsRecordedMeanwhile() {
+        PaymentMonthIndex index = new PaymentMonthIndex();
+        index.paymentRecorded(MEMBER, YearMonth.of(2024, 1));
+
+        PaymentMonthIndex.Builder builder = index.startRebuild();
+        builder.add(MEMBER, YearMonth.of(2024, 2));
+        // Recorded while the payment table is being scanned, after the scan passed it
+        index.paymentRecorded(MEMBER, YearMonth.of(2024, 3));
+        index.reset(builder);
+
+        assertFalse(index.hasPayment(MEMBER, YearMonth.of(2024, 1)));
+        assertTrue(index.hasPayment(MEMBER, YearMonth.of(2024, 2)));
+        assertTrue(index.hasPayment(MEMBER, YearMonth.of(2024, 3)));
+    }
+}
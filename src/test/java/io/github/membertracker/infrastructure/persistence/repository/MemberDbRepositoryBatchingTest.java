@@ -0,0 +1,62 @@
+package io.github.membertracker.infrastructure.persistence.repository;
+
+import io.github.membertracker.domain.model.Member;
+import io.github.membertracker.domain.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the JDBC statements a bulk member import prepares. Needs the MySQL database from
+ * application.properties, so it only runs with DB_TESTS=true; the inserts are rolled back.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfEnvironmentVariable(named = "DB_TESTS", matches = "true")
+@Transactional
+class MemberDbRepositoryBatchingTest {
+
+    private static final int MEMBERS = 2500;
+
+    // One batched INSERT per chunk of 1000, plus reading and advancing member_seq once per
+    // block of 1000 ids; without batching this would be one statement per member
+    private static final int MAX_STATEMENTS = 3 + 2 * 3;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void insertAllPreparesStatementsPerChunkNotPerMember() {
+        List<Member> members = new ArrayList<>(MEMBERS);
+        long run = System.nanoTime();
+        for (int i = 0; i < MEMBERS; i++) {
+            Member member = new Member("Batch Member " + i, "batch-" + run + "-" + i + "@example.com", null);
+            member.setJoinDate(LocalDate.now());
+            members.add(member);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        memberRepository.insertAll(members);
+
+        assertEquals(MEMBERS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS,
+                "prepared " + statistics.getPrepareStatementCount() + " statements for " + MEMBERS + " members");
+        members.forEach(member -> assertNotNull(member.getId()));
+    }
+}
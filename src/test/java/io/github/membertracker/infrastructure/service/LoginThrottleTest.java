@@ -0,0 +1,88 @@
+package io.github.membertracker.infrastructure.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoginThrottleTest {
+
+    private static final long WINDOW_SECONDS = 300;
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(WINDOW_SECONDS);
+
+    private long now = 1_000 * WINDOW;
+
+    @Test
+    void limitsAttemptsPerEmail() {
+        LoginThrottle throttle = new LoginThrottle(3, 100, WINDOW_SECONDS, () -> now);
+
+        assertTrue(throttle.tryAcquire("member@example.com", "10.0.0.1"));
+        assertTrue(throttle.tryAcquire("member@example.com", "10.0.0.2"));
+        assertTrue(throttle.tryAcquire("member@example.com", "10.0.0.3"));
+        assertFalse(throttle.tryAcquire("member@example.com", "10.0.0.4"));
+        assertTrue(throttle.tryAcquire("other@example.com", "10.0.0.4"));
+    }
+
+    @Test
+    void countsEmailsCaseInsensitively() {
+        LoginThrottle throttle = new LoginThrottle(2, 100, WINDOW_SECONDS, () -> now);
+
+        assertTrue(throttle.tryAcquire("Member@Example.com", null));
+        assertTrue(throttle.tryAcquire(" member@example.com ", null));
+        assertFalse(throttle.tryAcquire("MEMBER@EXAMPLE.COM", null));
+    }
+
+    @Test
+    void limitsAttemptsPerIp() {
+        LoginThrottle throttle = new LoginThrottle(100, 2, WINDOW_SECONDS, () -> now);
+
+        assertTrue(throttle.tryAcquire("a@example.com", "10.0.0.1"));
+        assertTrue(throttle.tryAcquire("b@example.com", "10.0.0.1"));
+        assertFalse(throttle.tryAcquire("c@example.com", "10.0.0.1"));
+        assertTrue(throttle.tryAcquire("c@example.com", "10.0.0.2"));
+    }
+
+    @Test
+    void previousWindowWeighsLessAsItSlidesOut() {
+        LoginThrottle throttle = new LoginThrottle(4, 100, WINDOW_SECONDS, () -> now);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(throttle.tryAcquire("member@example.com", null));
+        }
+        assertFalse(throttle.tryAcquire("member@example.com", null));
+
+        // A quarter into the next window, the 4 earlier attempts still count as 3
+        now += WINDOW + WINDOW / 4;
+        assertTrue(throttle.tryAcquire("member@example.com", null));
+        assertFalse(throttle.tryAcquire("member@example.com", null));
+
+        // Halfway, they count as 2, which leaves room for one more
+        now += WINDOW / 4;
+        assertTrue(throttle.tryAcquire("member@example.com", null));
+        assertFalse(throttle.tryAcquire("member@example.com", null));
+    }
+
+    @Test
+    void attemptsExpireAfterTwoWindows() {
+        LoginThrottle throttle = new LoginThrottle(2, 100, WINDOW_SECONDS, () -> now);
+        assertTrue(throttle.tryAcquire("member@example.com", null));
+        assertTrue(throttle.tryAcquire("member@example.com", null));
+        assertFalse(throttle.tryAcquire("member@example.com", null));
+
+        now += 2 * WINDOW;
+        assertTrue(throttle.tryAcquire("member@example.com", null));
+        assertTrue(throttle.tryAcquire("member@example.com", null));
+    }
+
+    @Test
+    void buffersFailuresUntilCleared() {
+        LoginThrottle throttle = new LoginThrottle(10, 100, WINDOW_SECONDS, () -> now);
+
+        assertEquals(1, throttle.recordFailure("member@example.com"));
+        assertEquals(2, throttle.recordFailure("Member@example.com"));
+        throttle.clearFailures("member@example.com");
+        assertEquals(1, throttle.recordFailure("member@example.com"));
+    }
+}
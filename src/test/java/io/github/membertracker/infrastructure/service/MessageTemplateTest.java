@@ -0,0 +1,74 @@
+package io.github.membertracker.infrastructure.service;
+
+import io.github.membertracker.domain.model.Member;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MessageTemplateTest {
+
+    @Test
+    void substitutesMemberTokens() {
+        MessageTemplate template = MessageTemplate.compile("Dear {{member_name}} ({{ member_email }}), thanks!");
+
+        assertEquals("Dear Abebe (abebe@example.com), thanks!", template.render(member("Abebe", "abebe@example.com")));
+        assertEquals("Dear Sara (sara@example.com), thanks!", template.render(member("Sara", "sara@example.com")));
+    }
+
+    @Test
+    void rendersTextWithoutTokensAsIs() {
+        MessageTemplate template = MessageTemplate.compile("Service starts at 10:00");
+
+        assertEquals("Service starts at 10:00", template.render(member("Abebe", "abebe@example.com")));
+    }
+
+    @Test
+    void keepsUnterminatedTokenAsText() {
+        MessageTemplate template = MessageTemplate.compile("Hi {{member_name}}, see {{member_email");
+
+        assertEquals("Hi Abebe, see {{member_email", template.render(member("Abebe", "abebe@example.com")));
+    }
+
+    @Test
+    void keepsUnknownTokensAsText() {
+        MessageTemplate template = MessageTemplate.compile("{{greeting}} {{member_name}}, {{unknown}}");
+
+        assertEquals("{{greeting}} Abebe, {{unknown}}", template.render(member("Abebe", "abebe@example.com")));
+    }
+
+    @Test
+    void findsTokenAfterUnknownOpening() {
+        MessageTemplate template = MessageTemplate.compile("{{ {{member_name}}");
+
+        assertEquals("{{ Abebe", template.render(member("Abebe", "abebe@example.com")));
+    }
+
+    @Test
+    void insertsValuesVerbatim() {
+        MessageTemplate template = MessageTemplate.compile("Dear {{member_name}}");
+
+        assertEquals("Dear Tom & <Jerry>", template.render(member("Tom & <Jerry>", "tom@example.com")));
+    }
+
+    @Test
+    void rendersMissingValuesAsEmpty() {
+        MessageTemplate template = MessageTemplate.compile("Dear {{member_name}}!");
+
+        assertEquals("Dear !", template.render(member(null, null)));
+    }
+
+    @Test
+    void treatsNullSourceAsEmpty() {
+        MessageTemplate template = MessageTemplate.compile(null);
+
+        assertEquals("", template.getSource());
+        assertEquals("", template.render(member("Abebe", "abebe@example.com")));
+    }
+
+    private static Member member(String name, String email) {
+        Member member = new Member();
+        member.setName(name);
+        member.setEmail(email);
+        return member;
+    }
+}
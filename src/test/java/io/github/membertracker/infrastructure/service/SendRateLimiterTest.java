@@ -0,0 +1,85 @@
+package io.github.membertracker.infrastructure.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SendRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private long now = 1_000 * SECOND;
+
+    @Test
+    void sendsBudgetWithoutWaiting() {
+        SendRateLimiter limiter = new SendRateLimiter(3, 0, () -> now);
+
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+    }
+
+    @Test
+    void waitsForTokenOnceBudgetIsSpent() {
+        SendRateLimiter limiter = new SendRateLimiter(2, 0, () -> now);
+        limiter.reserve();
+        limiter.reserve();
+
+        assertEquals(SECOND / 2, limiter.reserve());
+    }
+
+    @Test
+    void queuedCallersGoFurtherIntoDebt() {
+        SendRateLimiter limiter = new SendRateLimiter(2, 0, () -> now);
+        limiter.reserve();
+        limiter.reserve();
+
+        // Each reservation past the budget waits for its own token, in call order
+        assertEquals(SECOND / 2, limiter.reserve());
+        assertEquals(SECOND, limiter.reserve());
+        assertEquals(3 * SECOND / 2, limiter.reserve());
+    }
+
+    @Test
+    void refillPaysOffDebt() {
+        SendRateLimiter limiter = new SendRateLimiter(2, 0, () -> now);
+        limiter.reserve();
+        limiter.reserve();
+        limiter.reserve();
+        limiter.reserve();
+
+        // Two tokens of debt are paid off after a second; the next token is half a second away
+        now += SECOND;
+        assertEquals(SECOND / 2, limiter.reserve());
+    }
+
+    @Test
+    void refillIsCappedAtBudget() {
+        SendRateLimiter limiter = new SendRateLimiter(2, 0, () -> now);
+
+        now += 60 * SECOND;
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(SECOND / 2, limiter.reserve());
+    }
+
+    @Test
+    void waitsForSlowerBucket() {
+        SendRateLimiter limiter = new SendRateLimiter(10, 2, () -> now);
+        limiter.reserve();
+        limiter.reserve();
+
+        assertEquals(30 * SECOND, limiter.reserve());
+    }
+
+    @Test
+    void zeroBudgetDisablesLimit() {
+        SendRateLimiter limiter = new SendRateLimiter(0, 0, () -> now);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, limiter.reserve());
+        }
+    }
+}
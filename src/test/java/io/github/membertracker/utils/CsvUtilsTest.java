@@ -0,0 +1,50 @@
+package io.github.membertracker.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvUtilsTest {
+
+    @Test
+    void splitsPlainFields() {
+        assertEquals(List.of("Abebe", "abebe@example.com", "0911"), CsvUtils.parseCsvLine("Abebe,abebe@example.com,0911"));
+    }
+
+    @Test
+    void keepsEmptyFields() {
+        assertEquals(List.of("", "b", "", ""), CsvUtils.parseCsvLine(",b,,"));
+        assertEquals(List.of(""), CsvUtils.parseCsvLine(""));
+    }
+
+    @Test
+    void unquotesFieldsWithSeparatorsAndQuotes() {
+        assertEquals(List.of("Kebede, Abebe", "He said \"hi\"", "x"),
+            CsvUtils.parseCsvLine("\"Kebede, Abebe\",\"He said \"\"hi\"\"\",x"));
+    }
+
+    @Test
+    void keepsWhitespace() {
+        assertEquals(List.of(" a ", " b"), CsvUtils.parseCsvLine(" a , b"));
+    }
+
+    @Test
+    void readsBackEscapedValues() {
+        String[] values = {"plain", "with, comma", "with \"quotes\"", "", "\"\""};
+        StringJoiner line = new StringJoiner(",");
+        for (String value : values) {
+            line.add(CsvUtils.escapeCsv(value));
+        }
+
+        assertEquals(List.of(values), CsvUtils.parseCsvLine(line.toString()));
+    }
+
+    @Test
+    void rejectsUnterminatedQuotedField() {
+        assertThrows(IllegalArgumentException.class, () -> CsvUtils.parseCsvLine("a,\"b,c"));
+    }
+}
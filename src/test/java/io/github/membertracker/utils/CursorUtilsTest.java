@@ -0,0 +1,45 @@
+package io.github.membertracker.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorUtilsTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        String cursor = CursorUtils.encode("Abebe Kebede", "2024-06-15", "42");
+
+        assertArrayEquals(new String[] {"Abebe Kebede", "2024-06-15", "42"}, CursorUtils.decode(cursor, 3));
+    }
+
+    @Test
+    void keepsEmptyAndNonAsciiParts() {
+        String cursor = CursorUtils.encode("", "\u1230\u120B\u121D", "");
+
+        assertArrayEquals(new String[] {"", "\u1230\u120B\u121D", ""}, CursorUtils.decode(cursor, 3));
+    }
+
+    @Test
+    void producesUrlSafeTokens() {
+        String cursor = CursorUtils.encode("??>>~~", "value/with+symbols=");
+
+        assertFalse(cursor.contains("+"));
+        assertFalse(cursor.contains("/"));
+        assertFalse(cursor.contains("="));
+    }
+
+    @Test
+    void rejectsWrongNumberOfParts() {
+        String cursor = CursorUtils.encode("a", "b");
+
+        assertThrows(IllegalArgumentException.class, () -> CursorUtils.decode(cursor, 3));
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertThrows(IllegalArgumentException.class, () -> CursorUtils.decode("not a cursor!", 1));
+    }
+}